@@ -0,0 +1,57 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.auth.utils.JwtUtils;
+import com.eunbinlib.api.auth.utils.RejectedTokenCache;
+import com.eunbinlib.api.auth.utils.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 엑세스 토큰을 반복 검증할 때, 서명을 매번 검증하는 경로와 검증된 클레임 캐시를 거치는 경로를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET_KEY = "and0VmFsaWRhdGlvbkJlbmNobWFya1NlY3JldEtleQ==";
+
+    private static final long ACCESS_EXPIRATION = 3_600_000L;
+
+    private static final long REFRESH_EXPIRATION = 7_200_000L;
+
+    private JwtUtils uncachedJwtUtils;
+
+    private JwtUtils cachedJwtUtils;
+
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        uncachedJwtUtils = new JwtUtils(SECRET_KEY, ACCESS_EXPIRATION, REFRESH_EXPIRATION,
+                new VerifiedClaimsCache(false, 0, 0), new RejectedTokenCache(false, 0, 0));
+        cachedJwtUtils = new JwtUtils(SECRET_KEY, ACCESS_EXPIRATION, REFRESH_EXPIRATION,
+                new VerifiedClaimsCache(true, 10_000, 8 * 1024 * 1024), new RejectedTokenCache(true, 10_000, 10_000));
+
+        accessToken = cachedJwtUtils.createAccessToken("member", "benchmarkUser");
+        cachedJwtUtils.validateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims uncachedValidation() {
+        return uncachedJwtUtils.validateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims cachedValidation() {
+        return cachedJwtUtils.validateAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,145 @@
+package com.eunbinlib.api.post;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 글 피드 한 페이지를 조회하는 비용을 페이지 깊이(1, 1000)에 따라 비교한다.
+ * 이전 방식은 limit 만큼 조회한 뒤 count 로 다음 글이 있는지 다시 조회하고,
+ * 현재 방식은 limit + 1 개를 한 번에 조회한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostFeedPaginationBenchmark {
+
+    private static final int POST_COUNT = 30_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final long USER_ID = 1L;
+
+    private static final String FIND_POSTS_QUERY = "select p.id, p.title\n" +
+            "from post p\n" +
+            "   left join (select blocked_id from block where blocker_id = ?) b on p.member_id = b.blocked_id\n" +
+            "where b.blocked_id is null\n" +
+            "   and p.state = 'NORMAL'\n" +
+            "   and p.id < ?\n" +
+            "order by p.id desc\n" +
+            "limit ?";
+
+    private static final String EXISTS_NEXT_QUERY = "select case when count(p.id) = 0 then false else true end\n" +
+            "from post p\n" +
+            "   left join (select blocked_id from block where blocker_id = ?) b on p.member_id = b.blocked_id\n" +
+            "where b.blocked_id is null\n" +
+            "   and p.id < ?\n" +
+            "   and p.state = 'NORMAL'";
+
+    @Param({"1", "1000"})
+    private int page;
+
+    private Connection connection;
+
+    private PreparedStatement findPosts;
+
+    private PreparedStatement existsNext;
+
+    private long cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:feed;DB_CLOSE_DELAY=-1");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table post (id bigint primary key, member_id bigint, state varchar(20), title varchar(255))");
+            statement.execute("create index post_member_idx on post (member_id)");
+            statement.execute("create table block (id bigint auto_increment primary key, blocker_id bigint, blocked_id bigint)");
+            statement.execute("create index block_blocker_idx on block (blocker_id)");
+            statement.execute("insert into block (blocker_id, blocked_id) values (1, 2)");
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement("insert into post values (?, ?, 'NORMAL', ?)")) {
+            for (int id = 1; id <= POST_COUNT; id++) {
+                insert.setLong(1, id);
+                insert.setLong(2, 2L + id % 50);
+                insert.setString(3, "title" + id);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        findPosts = connection.prepareStatement(FIND_POSTS_QUERY);
+        existsNext = connection.prepareStatement(EXISTS_NEXT_QUERY);
+
+        cursor = Long.MAX_VALUE;
+        for (int i = 1; i < page; i++) {
+            cursor = lastId(fetch(cursor, PAGE_SIZE), cursor);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean fetchThenExistsNext() throws SQLException {
+        long last = lastId(fetch(cursor, PAGE_SIZE), cursor);
+
+        existsNext.setLong(1, USER_ID);
+        existsNext.setLong(2, last);
+        try (ResultSet resultSet = existsNext.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    @Benchmark
+    public boolean fetchLimitPlusOne() throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = fetch(cursor, PAGE_SIZE + 1)) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+
+        return count > PAGE_SIZE;
+    }
+
+    private ResultSet fetch(long after, int limit) throws SQLException {
+        findPosts.setLong(1, USER_ID);
+        findPosts.setLong(2, after);
+        findPosts.setInt(3, limit);
+
+        return findPosts.executeQuery();
+    }
+
+    private long lastId(ResultSet resultSet, long fallback) throws SQLException {
+        long last = fallback;
+        try (resultSet) {
+            while (resultSet.next()) {
+                last = resultSet.getLong(1);
+            }
+        }
+
+        return last;
+    }
+}
@@ -0,0 +1,90 @@
+package com.eunbinlib.api.trending;
+
+import com.eunbinlib.api.application.trending.TrendingScoreBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 동시에 반응을 반영할 때 인기 글 점수판의 처리량을 잰다. 목표는 초당 1만 건 이상이다.
+ * 반영은 순위(topK) 안팎의 글에 고르게 들어오고, 첫 페이지 조회가 함께 일어난다.
+ * mixed 그룹은 좋아요 취소와 글 삭제를 섞어서, 조회할 때 순위를 다시 만드는(O(N)) 경우까지 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class TrendingScoreBoardBenchmark {
+
+    private static final long HALF_LIFE_MILLIS = 21_600_000L;
+
+    private static final int TOP_K = 1_000;
+
+    private static final long POST_COUNT = 10_000L;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final double LIKE_WEIGHT = 5.0;
+
+    private static final int UNLIKE_PERCENT = 5;
+
+    private static final int DELETE_PERCENT = 1;
+
+    private TrendingScoreBoard board;
+
+    @Setup
+    public void setUp() {
+        board = new TrendingScoreBoard(HALF_LIFE_MILLIS, TOP_K, System::currentTimeMillis);
+        for (long postId = 0; postId < POST_COUNT; postId++) {
+            board.add(postId, 1.0);
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        board.add(ThreadLocalRandom.current().nextLong(POST_COUNT), 1.0);
+    }
+
+    @Benchmark
+    public List<Long> readFirstPage() {
+        return board.read(0, PAGE_SIZE);
+    }
+
+    /**
+     * 삭제한 글은 새 글이 들어온 것처럼 바로 다시 더해서 글 수를 유지한다.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public void react() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long postId = random.nextLong(POST_COUNT);
+        int kind = random.nextInt(100);
+        if (kind < UNLIKE_PERCENT) {
+            board.add(postId, -LIKE_WEIGHT);
+        } else if (kind < UNLIKE_PERCENT + DELETE_PERCENT) {
+            board.remove(postId);
+            board.add(postId, 1.0);
+        } else {
+            board.add(postId, 1.0);
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public List<Long> readDuringReactions() {
+        return board.read(0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,59 @@
+package com.eunbinlib.api.application.controller;
+
+import com.eunbinlib.api.application.dto.request.LoginRequest;
+import com.eunbinlib.api.application.dto.request.LogoutRequest;
+import com.eunbinlib.api.application.dto.response.TokenResponse;
+import com.eunbinlib.api.application.utils.PasswordHashExecutor;
+import com.eunbinlib.api.auth.exception.type.InvalidLoginInfoException;
+import com.eunbinlib.api.auth.ratelimit.LoginRateLimiter;
+import com.eunbinlib.api.auth.utils.AuthService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class AuthController {
+
+    public static final String LOGIN_URL = "/api/auth/login";
+
+    public static final String LOGOUT_URL = "/api/auth/logout";
+
+    private final AuthService authService;
+
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    /**
+     * 시도 횟수 제한을 먼저 확인하고, 비밀번호 검증은 별도 스레드 풀에서 실행한다. 요청 스레드는 비동기 처리로 반환한다.
+     */
+    @PostMapping(LOGIN_URL)
+    public CompletableFuture<TokenResponse> login(@RequestBody @Valid LoginRequest loginRequest, HttpServletRequest request) {
+        String username = loginRequest.getUsername();
+        String clientAddress = request.getRemoteAddr();
+
+        loginRateLimiter.checkAllowed(username, clientAddress);
+
+        return passwordHashExecutor.submit(() -> authService.authenticate(loginRequest))
+                .whenComplete((tokenResponse, e) -> {
+                    if (e == null) {
+                        loginRateLimiter.onSuccess(username);
+                    } else if (e instanceof InvalidLoginInfoException) {
+                        loginRateLimiter.onFailure(username, clientAddress);
+                    }
+                });
+    }
+
+    @PostMapping(LOGOUT_URL)
+    public void logout(@RequestBody @Valid LogoutRequest logoutRequest, HttpServletRequest request) {
+        authService.logout(authService.resolveAuthContext(request), logoutRequest.getRefreshToken());
+    }
+}
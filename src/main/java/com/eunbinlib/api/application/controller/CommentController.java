@@ -1,8 +1,11 @@
 package com.eunbinlib.api.application.controller;
 
 import com.eunbinlib.api.application.dto.request.CommentCreateRequest;
+import com.eunbinlib.api.application.dto.request.CommentReadRequest;
 import com.eunbinlib.api.application.dto.request.CommentUpdateRequest;
 import com.eunbinlib.api.application.dto.response.OnlyIdResponse;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.CommentInfo;
 import com.eunbinlib.api.application.service.CommentService;
 import com.eunbinlib.api.auth.data.MemberSession;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,21 @@ public class CommentController {
         return commentService.create(memberSession.getId(), commentCreateRequest);
     }
 
+    @GetMapping()
+    public PaginationResponse<CommentInfo> readMany(@RequestParam Long postId, @ModelAttribute CommentReadRequest commentReadRequest) {
+        return commentService.readMany(postId, commentReadRequest);
+    }
+
+    @GetMapping("/{commentId}/replies")
+    public PaginationResponse<CommentInfo> readReplies(@PathVariable Long commentId, @ModelAttribute CommentReadRequest commentReadRequest) {
+        return commentService.readReplies(commentId, commentReadRequest);
+    }
+
+    @GetMapping("/{commentId}/subtree")
+    public PaginationResponse<CommentInfo> readSubtree(@PathVariable Long commentId, @ModelAttribute CommentReadRequest commentReadRequest) {
+        return commentService.readSubtree(commentId, commentReadRequest);
+    }
+
     @PatchMapping("/{commentId}")
     public void update(MemberSession memberSession, @PathVariable Long commentId, @RequestBody @NotBlank CommentUpdateRequest commentUpdateRequest) {
         commentService.update(memberSession.getId(), commentId, commentUpdateRequest);
@@ -2,12 +2,15 @@ package com.eunbinlib.api.application.controller;
 
 import com.eunbinlib.api.application.dto.request.PostCreateRequest;
 import com.eunbinlib.api.application.dto.request.PostReadRequest;
+import com.eunbinlib.api.application.dto.request.PostSearchRequest;
+import com.eunbinlib.api.application.dto.request.PostTrendingRequest;
 import com.eunbinlib.api.application.dto.request.PostUpdateRequest;
 import com.eunbinlib.api.application.dto.response.OnlyIdResponse;
 import com.eunbinlib.api.application.dto.response.PaginationResponse;
 import com.eunbinlib.api.application.dto.response.PostResponse;
 import com.eunbinlib.api.application.dto.response.postdetailresponse.PostDetailResponse;
 import com.eunbinlib.api.application.service.PostService;
+import com.eunbinlib.api.application.service.TrendingPostService;
 import com.eunbinlib.api.auth.data.MemberSession;
 import com.eunbinlib.api.auth.data.UserSession;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +28,8 @@ public class PostController {
 
     private final PostService postService;
 
+    private final TrendingPostService trendingPostService;
+
     @PostMapping()
     @ResponseStatus(HttpStatus.CREATED)
     public OnlyIdResponse create(MemberSession memberSession, @ModelAttribute @Valid PostCreateRequest postCreateRequest) {
@@ -41,6 +46,20 @@ public class PostController {
         return postService.readMany(userSession.getId(), postReadRequest);
     }
 
+    @GetMapping("/search")
+    public PaginationResponse<PostResponse> search(UserSession userSession, @ModelAttribute @Valid PostSearchRequest postSearchRequest) {
+        return postService.search(userSession.getId(), postSearchRequest);
+    }
+
+    /**
+     * 인기 글 순위는 요청을 받은 노드가 받은 반응으로만 매기므로 노드마다 다를 수 있다.
+     * 커서는 순위에서의 위치라서, 다음 페이지를 다른 노드가 받으면 글이 겹치거나 빠질 수 있다.
+     */
+    @GetMapping("/trending")
+    public PaginationResponse<PostResponse> readTrending(UserSession userSession, @ModelAttribute PostTrendingRequest postTrendingRequest) {
+        return trendingPostService.readTrending(userSession.getId(), postTrendingRequest);
+    }
+
     @PatchMapping("/{postId}")
     public void update(MemberSession memberSession, @PathVariable Long postId, @ModelAttribute @Valid PostUpdateRequest postUpdateRequest) {
         postService.update(memberSession.getId(), postId, postUpdateRequest);
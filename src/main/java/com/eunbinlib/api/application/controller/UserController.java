@@ -6,12 +6,14 @@ import com.eunbinlib.api.application.dto.request.MemberCreateRequest;
 import com.eunbinlib.api.application.dto.response.UserMeResponse;
 import com.eunbinlib.api.application.service.BlockService;
 import com.eunbinlib.api.application.service.UserService;
+import com.eunbinlib.api.application.utils.PasswordHashExecutor;
 import com.eunbinlib.api.auth.data.MemberSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -24,15 +26,16 @@ public class UserController {
 
     private final UserService userService;
     private final BlockService blockService;
+    private final PasswordHashExecutor passwordHashExecutor;
 
     @PostMapping("/members")
-    public void createMember(@RequestBody @Valid MemberCreateRequest memberCreateRequest) {
-        userService.createMember(memberCreateRequest);
+    public CompletableFuture<Void> createMember(@RequestBody @Valid MemberCreateRequest memberCreateRequest) {
+        return passwordHashExecutor.submit(() -> userService.createMember(memberCreateRequest));
     }
 
     @PostMapping("/guests")
-    public void createGuest(@RequestBody @Valid GuestCreateRequest guestCreateRequest) {
-        userService.createGuest(guestCreateRequest);
+    public CompletableFuture<Void> createGuest(@RequestBody @Valid GuestCreateRequest guestCreateRequest) {
+        return passwordHashExecutor.submit(() -> userService.createGuest(guestCreateRequest));
     }
 
     @GetMapping("/me")
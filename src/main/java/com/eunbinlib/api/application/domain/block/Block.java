@@ -10,6 +10,7 @@ import javax.persistence.*;
 
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "UK_BLOCK_BLOCKER_BLOCKED", columnNames = {"BLOCKER_ID", "BLOCKED_ID"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Block {
 
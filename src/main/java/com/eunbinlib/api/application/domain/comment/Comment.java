@@ -14,6 +14,12 @@ import javax.validation.constraints.NotNull;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "IDX_COMMENT_PATH", columnList = "PATH"),
+        @Index(name = "IDX_COMMENT_THREAD", columnList = "THREAD_ID"),
+        @Index(name = "IDX_COMMENT_POST_PARENT", columnList = "POST_ID, PARENT_ID, ID"),
+        @Index(name = "IDX_COMMENT_PARENT", columnList = "PARENT_ID, ID")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
 
@@ -36,10 +42,22 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "POST_ID", nullable = false)
     private Post post;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "PARENT_ID", nullable = true)
     private Comment parent;
 
+    /**
+     * 루트 댓글부터 이 댓글까지의 경로. id 가 정해진 뒤에 채워진다.
+     */
+    @Column(name = "PATH", length = CommentPath.MAX_LENGTH)
+    private String path;
+
+    /**
+     * 이 댓글이 속한 스레드의 루트 댓글 id. 루트 댓글은 자기 자신의 id 를 가진다.
+     */
+    @Column(name = "THREAD_ID")
+    private Long threadId;
+
     @Builder
     public Comment(final String content, final Member member, final Post post, final Comment parent) {
         this.content = content;
@@ -49,6 +67,29 @@ public class Comment extends BaseTimeEntity {
         this.state = CommentState.NORMAL;
     }
 
+    /**
+     * IDENTITY 전략이라 저장 전에는 id 를 알 수 없으므로, insert 직후에 경로와 스레드를 채운다.
+     * 바뀐 값은 같은 트랜잭션의 flush 에서 반영된다.
+     */
+    @PostPersist
+    void assignPath() {
+        if (parent != null) {
+            parent.fillPathIfMissing();
+        }
+
+        this.path = CommentPath.of(parent != null ? parent.getPath() : null, id);
+        this.threadId = parent != null ? parent.getThreadId() : id;
+    }
+
+    /**
+     * 경로가 추가되기 전에 작성된 댓글이면 조상부터 차례로 경로와 스레드를 채운다.
+     */
+    public void fillPathIfMissing() {
+        if (path == null) {
+            assignPath();
+        }
+    }
+
     public void setPost(final Post post) {
         if (post == null) {
             throw new IllegalArgumentException("댓글이 속하는 게시글은 null 값이 될 수 없습니다.");
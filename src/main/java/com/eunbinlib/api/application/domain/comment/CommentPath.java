@@ -0,0 +1,51 @@
+package com.eunbinlib.api.application.domain.comment;
+
+/**
+ * 댓글의 경로. 루트 댓글부터 자신까지의 id 를 고정 길이 36진수로 이어 붙인 문자열이다.
+ * 경로 순으로 정렬하면 스레드가 화면에 보이는 순서(부모 다음에 자식, 형제끼리는 작성 순)가 되고,
+ * 한 댓글의 하위 댓글은 모두 [경로, 경로의 상한) 범위에 들어가므로 인덱스 범위 조회 한 번으로 읽을 수 있다.
+ */
+public final class CommentPath {
+
+    /**
+     * Long 의 최댓값도 36진수 13자리에 들어간다.
+     */
+    private static final int SEGMENT_LENGTH = 13;
+
+    private static final char SEPARATOR = '.';
+
+    /**
+     * 36진수 문자(0-9, a-z)는 모두 구분자보다 크므로, 구분자를 다음 문자로 바꾼 값이 하위 경로의 상한이 된다.
+     */
+    private static final char SEPARATOR_UPPER = SEPARATOR + 1;
+
+    public static final int MAX_LENGTH = 255;
+
+    private CommentPath() {
+    }
+
+    public static boolean canAppendTo(final String parentPath) {
+        return parentPath.length() + SEGMENT_LENGTH + 1 <= MAX_LENGTH;
+    }
+
+    public static String of(final String parentPath, final Long id) {
+        String segment = Long.toString(id, Character.MAX_RADIX);
+        String path = (parentPath != null ? parentPath : "")
+                + "0".repeat(SEGMENT_LENGTH - segment.length())
+                + segment
+                + SEPARATOR;
+
+        if (path.length() > MAX_LENGTH) {
+            throw new IllegalStateException("댓글을 더 깊이 달 수 없습니다.");
+        }
+
+        return path;
+    }
+
+    /**
+     * 하위 댓글 경로의 상한(미포함)
+     */
+    public static String upperBound(final String path) {
+        return path.substring(0, path.length() - 1) + SEPARATOR_UPPER;
+    }
+}
@@ -11,6 +11,11 @@ import javax.persistence.*;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "IDX_POST_IMAGE_FILE_POST", columnList = "POST_ID, ID"),
+        // NOTE: H2 는 인덱스를 거꾸로 읽지 못하므로, 최신순 목록의 첫 페이지가 정렬 없이 앞에서부터 읽도록 내림차순 인덱스를 둔다.
+        @Index(name = "IDX_POST_IMAGE_FILE_ID_DESC", columnList = "ID DESC")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostImageFile extends BaseTimeEntity {
 
@@ -11,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.util.CollectionUtils;
 
 import javax.persistence.*;
@@ -20,10 +21,18 @@ import java.util.List;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "IDX_POST_STATE_ID", columnList = "STATE, ID"),
+        @Index(name = "IDX_POST_MEMBER_ID", columnList = "MEMBER_ID, ID"),
+        @Index(name = "IDX_POST_MODIFIED_DATE", columnList = "MODIFIED_DATE")
+})
 @DynamicInsert
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
 
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -39,12 +48,24 @@ public class Post extends BaseTimeEntity {
     @NotNull
     private String content;
 
+    /**
+     * 목록 조회에서 본문(@Lob) 대신 읽는 본문 앞부분. 본문이 바뀔 때 함께 갱신한다.
+     */
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @ColumnDefault("0")
     private Long likeCount;
 
     @ColumnDefault("0")
     private Long viewCount;
 
+    /**
+     * 삭제되지 않은 댓글(답글 포함) 수. 댓글 작성/삭제 때 글을 읽지 않고 증감 쿼리로만 바꾼다.
+     */
+    @ColumnDefault("0")
+    private Long commentCount;
+
     @OneToMany(mappedBy = "post", fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     private List<PostImageFile> images = new ArrayList<>();
 
@@ -59,6 +80,7 @@ public class Post extends BaseTimeEntity {
     public Post(final String title, final String content, final Long likeCount, final Long viewCount, final Member member) {
         this.title = title;
         this.content = content;
+        this.excerpt = toExcerpt(content);
         this.likeCount = likeCount;
         this.viewCount = viewCount;
         this.member = member;
@@ -68,6 +90,19 @@ public class Post extends BaseTimeEntity {
     public void updateTitleAndContent(final String title, final String content) {
         this.title = title == null ? this.title : title;
         this.content = content == null ? this.content : content;
+        this.excerpt = toExcerpt(this.content);
+    }
+
+    /**
+     * 목록에 보일 본문 앞부분. 서로게이트 쌍의 가운데에서 자르지 않는다.
+     */
+    public static String toExcerpt(final String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+
+        int end = Character.isHighSurrogate(content.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return content.substring(0, end);
     }
 
     public void updateImages(final List<Long> deleteIdList, final List<BaseImageFile> newImages) {
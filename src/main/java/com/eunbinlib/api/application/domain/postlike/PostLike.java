@@ -11,6 +11,7 @@ import javax.persistence.*;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "UK_POST_LIKE_MEMBER_POST", columnNames = {"MEMBER_ID", "POST_ID"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostLike {
 
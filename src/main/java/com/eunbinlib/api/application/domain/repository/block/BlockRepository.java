@@ -3,7 +3,10 @@ package com.eunbinlib.api.application.domain.repository.block;
 import com.eunbinlib.api.application.domain.block.Block;
 import com.eunbinlib.api.application.domain.user.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface BlockRepository extends JpaRepository<Block, Long> {
@@ -14,4 +17,7 @@ public interface BlockRepository extends JpaRepository<Block, Long> {
 
     void deleteByBlockerAndBlocked(Member blocker, Member blocked);
 
+    @Query("select b.blocked.id from Block b where b.blocker.id = :blockerId")
+    List<Long> findBlockedIdsByBlockerId(@Param("blockerId") Long blockerId);
+
 }
@@ -0,0 +1,25 @@
+package com.eunbinlib.api.application.domain.repository.comment;
+
+import lombok.Getter;
+
+/**
+ * 경로가 비어 있는 댓글과 그 부모의 경로, 스레드. 루트 댓글은 부모 컬럼이 모두 null 이다.
+ */
+@Getter
+public class CommentBackfillRow {
+
+    private final Long id;
+
+    private final Long parentId;
+
+    private final String parentPath;
+
+    private final Long parentThreadId;
+
+    public CommentBackfillRow(Long id, Long parentId, String parentPath, Long parentThreadId) {
+        this.id = id;
+        this.parentId = parentId;
+        this.parentPath = parentPath;
+        this.parentThreadId = parentThreadId;
+    }
+}
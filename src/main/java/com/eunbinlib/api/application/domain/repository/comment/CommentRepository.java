@@ -2,7 +2,24 @@ package com.eunbinlib.api.application.domain.repository.comment;
 
 import com.eunbinlib.api.application.domain.comment.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+import java.util.Optional;
 
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    @Query("select c.path from Comment c where c.id = :commentId")
+    Optional<String> findPathById(@Param("commentId") Long commentId);
+
+    /** 경로가 비어 있을 때만 채운다. 그 사이 답글이 달리면서 이미 채워졌으면 덮어쓰지 않는다. */
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.path = :path, c.threadId = :threadId where c.id = :id and c.path is null")
+    int fillPath(@Param("id") Long id, @Param("path") String path, @Param("threadId") Long threadId);
+
+    @Query("select max(c.id) from Comment c")
+    Optional<Long> findMaxId();
 }
@@ -0,0 +1,18 @@
+package com.eunbinlib.api.application.domain.repository.comment;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+
+    List<CommentRow> findRootRows(Long postId, Long afterCond, long limit);
+
+    List<CommentRow> findReplyRows(Long parentId, Long afterCond, long limit);
+
+    List<CommentRow> findFirstReplyRows(Collection<Long> parentIds, long limitPerParent);
+
+    List<CommentRow> findSubtreeRows(String path, Long afterCond, long limit);
+
+    List<CommentBackfillRow> findRowsWithoutPath(long from, long to);
+
+}
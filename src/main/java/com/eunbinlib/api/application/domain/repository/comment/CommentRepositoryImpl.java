@@ -0,0 +1,225 @@
+package com.eunbinlib.api.application.domain.repository.comment;
+
+import com.eunbinlib.api.application.domain.comment.CommentPath;
+import com.eunbinlib.api.application.domain.comment.CommentState;
+import com.eunbinlib.api.application.domain.comment.QComment;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.eunbinlib.api.application.domain.comment.QComment.comment;
+import static com.eunbinlib.api.application.domain.imagefile.QProfileImageFile.profileImageFile;
+import static com.eunbinlib.api.application.domain.user.QMember.member;
+
+
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private static final QComment reply = new QComment("reply");
+
+    private static final QComment threadReply = new QComment("threadReply");
+
+    private static final QComment afterComment = new QComment("afterComment");
+
+    private static final QComment parent = new QComment("parent");
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final EntityManager entityManager;
+
+    /**
+     * 글에 직접 달린 댓글을 id 오름차순으로 after 다음부터 조회한다.
+     * 스레드 전체의 답글 수도 스레드 인덱스를 쓰는 하위 쿼리로 함께 센다.
+     */
+    @Override
+    public List<CommentRow> findRootRows(Long postId, Long afterCond, long limit) {
+
+        return selectRows(rootRow())
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.parent.isNull(),
+                        afterGt(afterCond)
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<CommentRow> findReplyRows(Long parentId, Long afterCond, long limit) {
+
+        return selectRows(row())
+                .where(
+                        comment.parent.id.eq(parentId),
+                        afterGt(afterCond)
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 여러 댓글의 답글을 댓글마다 앞에서부터 limitPerParent 개까지 한 번에 조회한다.
+     * 답글마다 앞선 형제 답글 수를 세면 답글 수의 제곱에 비례하므로, 부모 인덱스 순서대로 한 번 읽으며 순번을 매긴다.
+     * JPQL 에는 윈도 함수가 없어 네이티브 쿼리로 읽는다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CommentRow> findFirstReplyRows(Collection<Long> parentIds, long limitPerParent) {
+        if (parentIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "select c.id, c.parent_id, c.content, c.state, c.created_date, m.id as writer_id, m.nickname, f.stored_filename, " +
+                        "       (select count(*) from comment r where r.parent_id = c.id and r.state = 'NORMAL') as reply_count " +
+                        "from comment c " +
+                        "   join member m on m.id = c.member_id " +
+                        "   left join profile_image_file f on f.id = m.profile_image_file_id " +
+                        "where c.id in (select ranked.id " +
+                        "               from (select id, row_number() over (partition by parent_id order by id) as rn " +
+                        "                     from comment " +
+                        "                     where parent_id in (:parentIds)) ranked " +
+                        "               where ranked.rn <= :limit) " +
+                        "order by c.id")
+                .setParameter("parentIds", parentIds)
+                .setParameter("limit", limitPerParent)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new CommentRow(
+                        toLong(row[0]),
+                        toLong(row[1]),
+                        (String) row[2],
+                        CommentState.valueOf((String) row[3]),
+                        ((Timestamp) row[4]).toLocalDateTime(),
+                        toLong(row[5]),
+                        (String) row[6],
+                        (String) row[7],
+                        toLong(row[8])))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 경로가 path 인 댓글의 하위 댓글 전체를 화면에 보이는 순서(경로 순)로, after 댓글 다음부터 조회한다.
+     * 하위 댓글의 경로는 모두 (path, path 의 상한) 범위에 있으므로 경로 인덱스의 범위 조회 한 번으로 끝난다.
+     */
+    @Override
+    public List<CommentRow> findSubtreeRows(String path, Long afterCond, long limit) {
+
+        Expression<String> lowerBound = afterCond != null ? pathOf(afterCond) : Expressions.constant(path);
+
+        return selectRows(row())
+                .where(
+                        comment.path.gt(lowerBound),
+                        comment.path.lt(CommentPath.upperBound(path))
+                )
+                .orderBy(comment.path.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 경로가 추가되기 전에 작성되어 경로가 비어 있는 댓글을 부모의 경로, 스레드와 함께 댓글 id 순으로 찾는다.
+     */
+    @Override
+    public List<CommentBackfillRow> findRowsWithoutPath(long from, long to) {
+
+        return jpaQueryFactory.select(Projections.constructor(CommentBackfillRow.class,
+                        comment.id,
+                        parent.id,
+                        parent.path,
+                        parent.threadId
+                ))
+                .from(comment)
+                .leftJoin(comment.parent, parent)
+                .where(
+                        comment.id.gt(from),
+                        comment.id.loe(to),
+                        comment.path.isNull()
+                )
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    private JPQLQuery<String> pathOf(Long commentId) {
+        return JPAExpressions.select(afterComment.path)
+                .from(afterComment)
+                .where(afterComment.id.eq(commentId));
+    }
+
+    /**
+     * 댓글과 작성자, 작성자의 프로필 사진을 엔티티로 올리지 않고 읽는다.
+     */
+    private JPAQuery<CommentRow> selectRows(ConstructorExpression<CommentRow> row) {
+        return jpaQueryFactory.select(row)
+                .from(comment)
+                .join(comment.member, member)
+                .leftJoin(member.profileImageFile, profileImageFile);
+    }
+
+    private ConstructorExpression<CommentRow> row() {
+        return Projections.constructor(CommentRow.class,
+                comment.id,
+                comment.parent.id,
+                comment.content,
+                comment.state,
+                comment.createdDate,
+                member.id,
+                member.nickname.value,
+                profileImageFile.baseImageFile.storedFilename,
+                directReplyCount()
+        );
+    }
+
+    private JPQLQuery<Long> directReplyCount() {
+        return JPAExpressions.select(reply.count())
+                .from(reply)
+                .where(
+                        reply.parent.eq(comment),
+                        reply.state.eq(CommentState.NORMAL)
+                );
+    }
+
+    private ConstructorExpression<CommentRow> rootRow() {
+        return Projections.constructor(CommentRow.class,
+                comment.id,
+                comment.parent.id,
+                comment.content,
+                comment.state,
+                comment.createdDate,
+                member.id,
+                member.nickname.value,
+                profileImageFile.baseImageFile.storedFilename,
+                directReplyCount(),
+                JPAExpressions.select(threadReply.count())
+                        .from(threadReply)
+                        .where(
+                                threadReply.threadId.eq(comment.id),
+                                threadReply.id.ne(comment.id),
+                                threadReply.state.eq(CommentState.NORMAL)
+                        )
+        );
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private BooleanExpression afterGt(Long afterCond) {
+        return afterCond != null ? comment.id.gt(afterCond) : null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.eunbinlib.api.application.domain.repository.comment;
+
+import com.eunbinlib.api.application.domain.comment.CommentState;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회에 필요한 댓글과 댓글 작성자 컬럼, 직접 달린 답글 수를 한 번에 읽어오는 프로젝션.
+ * 루트 댓글을 읽을 때는 스레드 전체의 답글 수도 함께 읽는다.
+ * 삭제된 댓글은 답글이 이어지도록 자리만 남기고 내용과 작성자를 비운다. 답글 수는 댓글 수처럼 삭제되지 않은 답글만 센다.
+ */
+@Getter
+public class CommentRow {
+
+    private final Long id;
+
+    private final Long parentId;
+
+    private final String content;
+
+    private final boolean deleted;
+
+    private final LocalDateTime createdDate;
+
+    private final Long writerId;
+
+    private final String writerNickname;
+
+    private final String writerProfileImage;
+
+    private final Long replyCount;
+
+    /**
+     * 깊이와 상관없이 스레드에 달린 전체 답글 수. 루트 댓글 목록에서만 채우고, 그 밖에는 null
+     */
+    private final Long threadReplyCount;
+
+    public CommentRow(Long id, Long parentId, String content, CommentState state, LocalDateTime createdDate,
+                      Long writerId, String writerNickname, String writerProfileImage, Long replyCount) {
+        this(id, parentId, content, state, createdDate, writerId, writerNickname, writerProfileImage, replyCount, null);
+    }
+
+    public CommentRow(Long id, Long parentId, String content, CommentState state, LocalDateTime createdDate,
+                      Long writerId, String writerNickname, String writerProfileImage, Long replyCount,
+                      Long threadReplyCount) {
+        this.deleted = state == CommentState.DELETED;
+        this.id = id;
+        this.parentId = parentId;
+        this.content = deleted ? null : content;
+        this.createdDate = createdDate;
+        this.writerId = deleted ? null : writerId;
+        this.writerNickname = deleted ? null : writerNickname;
+        this.writerProfileImage = deleted ? null : writerProfileImage;
+        this.replyCount = replyCount;
+        this.threadReplyCount = threadReplyCount;
+    }
+}
@@ -0,0 +1,43 @@
+package com.eunbinlib.api.application.domain.repository.post;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 글 상세 조회에 필요한 글과 작성자 컬럼을 한 번에 읽어오는 프로젝션.
+ */
+@Getter
+public class PostDetailRow {
+
+    private final Long id;
+
+    private final String title;
+
+    private final String content;
+
+    private final LocalDateTime createdDate;
+
+    private final Long viewCount;
+
+    private final Long likeCount;
+
+    private final Long writerId;
+
+    private final String writerNickname;
+
+    private final String writerProfileImage;
+
+    public PostDetailRow(Long id, String title, String content, LocalDateTime createdDate, Long viewCount, Long likeCount,
+                         Long writerId, String writerNickname, String writerProfileImage) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.createdDate = createdDate;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.writerId = writerId;
+        this.writerNickname = writerNickname;
+        this.writerProfileImage = writerProfileImage;
+    }
+}
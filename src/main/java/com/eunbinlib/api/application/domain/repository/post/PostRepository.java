@@ -3,55 +3,78 @@ package com.eunbinlib.api.application.domain.repository.post;
 import com.eunbinlib.api.application.domain.post.Post;
 import com.eunbinlib.api.application.domain.post.PostState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
-
-    String FIND_POSTS_QUERY_BASE = "select *\n" +
-                                   "from post p\n" +
-                                   "   left join (select blocked_id from block where blocker_id = :userId) b on p.member_id = b.blocked_id\n" +
-                                   "where b.blocked_id is null\n" +
-                                   "   and p.state = 'NORMAL'\n";
-
-    String FIND_POSTS_QUERY_AFTER_CONDITION = "   and p.id < :afterCond\n";
-
-    String FIND_POSTS_QUERY_TAIL = "order by p.id desc\n" +
-                                   "limit :limit\n";
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
     @Query(value = "select distinct p " +
             "from Post p " +
-            "   join fetch p.member pm " +
-            "   left join fetch p.comments c " +
-            "   left join fetch c.member cm " +
+            "   left join fetch p.images " +
             "where p.id = :id " +
             "   and p.state = :state")
-    Optional<Post> findByIdAndState(@Param("id") Long id, @Param("state") PostState state);
+    Optional<Post> findWithImagesByIdAndState(@Param("id") Long id, @Param("state") PostState state);
 
-    @Query(value = FIND_POSTS_QUERY_BASE +
-            FIND_POSTS_QUERY_TAIL, nativeQuery = true)
-    List<Post> findPosts(@Param("limit") Long limit, @Param("userId") Long userId);
+    /**
+     * 글 엔티티를 읽어 오지 않고 여러 글의 조회수를 같은 값만큼 올린다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + :delta where p.id in :ids")
+    int addViewCount(@Param("delta") long delta, @Param("ids") Collection<Long> ids);
 
-    @Query(value = FIND_POSTS_QUERY_BASE +
-            FIND_POSTS_QUERY_AFTER_CONDITION +
-            FIND_POSTS_QUERY_TAIL, nativeQuery = true)
-    List<Post> findPostsWithAfterCondition(@Param("limit") Long limit, @Param("afterCond") Long afterCond, @Param("userId") Long userId);
+    /**
+     * 글 엔티티를 읽어 오지 않고 여러 글의 좋아요 수를 같은 값만큼 바꾼다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + :delta where p.id in :ids")
+    int addLikeCount(@Param("delta") long delta, @Param("ids") Collection<Long> ids);
 
-    @Query(value = "select case when count(p.id) = 0 then false else true end\n" +
-            "from post p\n" +
-            "   left join (select blocked_id from block where blocker_id = :userId) b on p.member_id = b.blocked_id\n" +
-            "where b.blocked_id is null\n" +
-            "   and p.id < :afterCond\n" +
-            "   and p.state = 'NORMAL'", nativeQuery = true)
-    boolean existsNext(@Param("userId") Long userId, @Param("afterCond") Long afterCond);
+    /**
+     * 글 엔티티를 읽어 오지 않고 글의 댓글 수를 바꾼다. 호출한 트랜잭션에 참여하므로 댓글 작성/삭제와 함께 커밋된다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
 
-    @Query(value = "select distinct p " +
-            "from Post p " +
-            "   left join fetch p.images " +
-            "where p.id = :id " +
-            "   and p.state = :state")
-    Optional<Post> findWithImagesByIdAndState(@Param("id") Long id, @Param("state") PostState state);
-}
\ No newline at end of file
+    /**
+     * 본문 앞부분이 비어 있을 때만 채운다. 그 사이 글이 수정되어 이미 채워졌으면 덮어쓰지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.excerpt = :excerpt where p.id = :id and p.excerpt is null")
+    int fillExcerpt(@Param("id") Long id, @Param("excerpt") String excerpt);
+
+    /**
+     * 삭제된 글을 포함해 since 이후에 수정된 글의 id 를 읽는다. 조회수/좋아요 수처럼 벌크 update 로 바뀐 값은 수정 시각을 바꾸지 않는다.
+     */
+    @Query("select p.id from Post p where p.modifiedDate >= :since")
+    List<Long> findIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    @Query("select max(p.id) from Post p")
+    Optional<Long> findMaxId();
+
+    /**
+     * id 가 (from, to] 인 글 중 댓글 수가 실제 댓글 수와 다른 글만 다시 센 값으로 고친다.
+     *
+     * @return 고친 글 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update post p " +
+            "set comment_count = (select count(*) from comment c where c.post_id = p.id and c.state = 'NORMAL') " +
+            "where p.id > :from " +
+            "   and p.id <= :to " +
+            "   and coalesce(p.comment_count, -1) <> (select count(*) from comment c where c.post_id = p.id and c.state = 'NORMAL')",
+            nativeQuery = true)
+    int repairCommentCount(@Param("from") long from, @Param("to") long to);
+}
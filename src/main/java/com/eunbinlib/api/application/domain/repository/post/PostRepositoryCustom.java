@@ -0,0 +1,26 @@
+package com.eunbinlib.api.application.domain.repository.post;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface PostRepositoryCustom {
+
+    List<PostSummary> findFeed(Long afterCond, Collection<Long> excludedMemberIds, long limit);
+
+    Optional<PostSummary> findSummary(Long id);
+
+    Optional<PostDetailRow> findDetailRow(Long id);
+
+    List<PostSummary> findSummaries(Collection<Long> ids);
+
+    List<PostSearchRow> findSearchRows(Long afterCond, long limit);
+
+    Optional<PostSearchRow> findSearchRow(Long id);
+
+    List<PostSearchRow> findSearchRowsByIds(Collection<Long> ids);
+
+    Map<Long, String> findContentsWithoutExcerpt(long from, long to);
+
+}
@@ -0,0 +1,193 @@
+package com.eunbinlib.api.application.domain.repository.post;
+
+import com.eunbinlib.api.application.domain.post.PostState;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.eunbinlib.api.application.domain.imagefile.QProfileImageFile.profileImageFile;
+import static com.eunbinlib.api.application.domain.post.QPost.post;
+import static com.eunbinlib.api.application.domain.user.QMember.member;
+
+
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * state, id 조건만으로 최신 글부터 조회한다. 차단한 회원의 글은 block 테이블 조인 대신 id 목록으로 제외한다.
+     * 엔티티 대신 목록에 필요한 컬럼만 읽으므로 본문(@Lob)을 읽지 않고, 영속성 컨텍스트에도 올리지 않는다.
+     */
+    @Override
+    public List<PostSummary> findFeed(Long afterCond, Collection<Long> excludedMemberIds, long limit) {
+
+        return jpaQueryFactory.select(summary())
+                .from(post)
+                .where(
+                        post.state.eq(PostState.NORMAL),
+                        afterLt(afterCond),
+                        memberNotIn(excludedMemberIds)
+                )
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<PostSummary> findSummary(Long id) {
+
+        return Optional.ofNullable(jpaQueryFactory.select(summary())
+                .from(post)
+                .where(
+                        post.id.eq(id),
+                        post.state.eq(PostState.NORMAL)
+                )
+                .fetchOne());
+    }
+
+    /**
+     * 글과 작성자, 작성자의 프로필 사진을 엔티티로 올리지 않고 한 번의 조회로 읽는다.
+     */
+    @Override
+    public Optional<PostDetailRow> findDetailRow(Long id) {
+
+        return Optional.ofNullable(jpaQueryFactory.select(Projections.constructor(PostDetailRow.class,
+                        post.id,
+                        post.title,
+                        post.content,
+                        post.createdDate,
+                        post.viewCount,
+                        post.likeCount,
+                        member.id,
+                        member.nickname.value,
+                        profileImageFile.baseImageFile.storedFilename
+                ))
+                .from(post)
+                .join(post.member, member)
+                .leftJoin(member.profileImageFile, profileImageFile)
+                .where(
+                        post.id.eq(id),
+                        post.state.eq(PostState.NORMAL)
+                )
+                .fetchOne());
+    }
+
+    /**
+     * 검색 결과처럼 id 로 고른 글들을 목록 형태로 최신 글부터 읽는다. 그 사이 삭제된 글은 빠진다.
+     */
+    @Override
+    public List<PostSummary> findSummaries(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaQueryFactory.select(summary())
+                .from(post)
+                .where(
+                        post.id.in(ids),
+                        post.state.eq(PostState.NORMAL)
+                )
+                .orderBy(post.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 검색 색인을 다시 만들 때 글을 id 오름차순으로 limit 개씩 나누어 읽는다.
+     */
+    @Override
+    public List<PostSearchRow> findSearchRows(Long afterCond, long limit) {
+
+        return jpaQueryFactory.select(searchRow())
+                .from(post)
+                .where(
+                        afterCond != null ? post.id.gt(afterCond) : null,
+                        post.state.eq(PostState.NORMAL)
+                )
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<PostSearchRow> findSearchRow(Long id) {
+
+        return Optional.ofNullable(jpaQueryFactory.select(searchRow())
+                .from(post)
+                .where(
+                        post.id.eq(id),
+                        post.state.eq(PostState.NORMAL)
+                )
+                .fetchOne());
+    }
+
+    @Override
+    public List<PostSearchRow> findSearchRowsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaQueryFactory.select(searchRow())
+                .from(post)
+                .where(
+                        post.id.in(ids),
+                        post.state.eq(PostState.NORMAL)
+                )
+                .fetch();
+    }
+
+    /**
+     * id 가 (from, to] 인 글 중 본문 앞부분이 비어 있는 글의 본문을 id 순으로 읽는다.
+     */
+    @Override
+    public Map<Long, String> findContentsWithoutExcerpt(long from, long to) {
+        Map<Long, String> contents = new LinkedHashMap<>();
+        jpaQueryFactory.select(post.id, post.content)
+                .from(post)
+                .where(
+                        post.id.gt(from),
+                        post.id.loe(to),
+                        post.excerpt.isNull()
+                )
+                .orderBy(post.id.asc())
+                .fetch()
+                .forEach(tuple -> contents.put(tuple.get(post.id), tuple.get(post.content)));
+
+        return contents;
+    }
+
+    private ConstructorExpression<PostSearchRow> searchRow() {
+        return Projections.constructor(PostSearchRow.class,
+                post.id,
+                post.member.id,
+                post.title,
+                post.content
+        );
+    }
+
+    private ConstructorExpression<PostSummary> summary() {
+        return Projections.constructor(PostSummary.class,
+                post.id,
+                post.member.id,
+                post.title,
+                post.excerpt,
+                post.commentCount
+        );
+    }
+
+    private BooleanExpression afterLt(Long afterCond) {
+        return afterCond != null ? post.id.lt(afterCond) : null;
+    }
+
+    private BooleanExpression memberNotIn(Collection<Long> excludedMemberIds) {
+        return excludedMemberIds.isEmpty() ? null : post.member.id.notIn(excludedMemberIds);
+    }
+}
@@ -0,0 +1,25 @@
+package com.eunbinlib.api.application.domain.repository.post;
+
+import lombok.Getter;
+
+/**
+ * 검색 색인을 만들 때 읽는 글 컬럼. 본문 전체가 필요하므로 색인할 때만 읽는다.
+ */
+@Getter
+public class PostSearchRow {
+
+    private final Long id;
+
+    private final Long memberId;
+
+    private final String title;
+
+    private final String content;
+
+    public PostSearchRow(Long id, Long memberId, String title, String content) {
+        this.id = id;
+        this.memberId = memberId;
+        this.title = title;
+        this.content = content;
+    }
+}
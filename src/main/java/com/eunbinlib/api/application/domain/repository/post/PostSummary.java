@@ -0,0 +1,28 @@
+package com.eunbinlib.api.application.domain.repository.post;
+
+import lombok.Getter;
+
+/**
+ * 글 목록 조회에 필요한 컬럼만 읽어오는 프로젝션. 본문 대신 excerpt 를 담는다.
+ */
+@Getter
+public class PostSummary {
+
+    private final Long id;
+
+    private final Long memberId;
+
+    private final String title;
+
+    private final String excerpt;
+
+    private final Long commentCount;
+
+    public PostSummary(Long id, Long memberId, String title, String excerpt, Long commentCount) {
+        this.id = id;
+        this.memberId = memberId;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.commentCount = commentCount;
+    }
+}
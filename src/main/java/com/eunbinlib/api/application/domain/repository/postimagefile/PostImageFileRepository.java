@@ -2,6 +2,8 @@ package com.eunbinlib.api.application.domain.repository.postimagefile;
 
 import com.eunbinlib.api.application.domain.imagefile.PostImageFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,7 @@ public interface PostImageFileRepository extends JpaRepository<PostImageFile, Lo
 
     Optional<List<PostImageFile>> findAllByPostId(Long postId);
 
+    @Query("select i.baseImageFile.storedFilename from PostImageFile i where i.post.id = :postId order by i.id")
+    List<String> findStoredFilenamesByPostId(@Param("postId") Long postId);
+
 }
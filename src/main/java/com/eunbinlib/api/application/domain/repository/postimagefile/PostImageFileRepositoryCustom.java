@@ -8,6 +8,4 @@ public interface PostImageFileRepositoryCustom {
 
     List<PostImageFile> getList(Long limit, Long afterCond);
 
-    boolean existsNext(Long id);
-
 }
@@ -28,12 +28,4 @@ public class PostImageFileRepositoryImpl implements PostImageFileRepositoryCusto
     private BooleanExpression afterLt(Long afterCond) {
         return afterCond != null ? postImageFile.id.lt(afterCond) : null;
     }
-
-    @Override
-    public boolean existsNext(Long id) {
-        return jpaQueryFactory.selectOne()
-                .from(postImageFile)
-                .where(postImageFile.id.lt(id))
-                .fetchFirst() != null;
-    }
 }
@@ -2,11 +2,45 @@ package com.eunbinlib.api.application.domain.repository.postlike;
 
 import com.eunbinlib.api.application.domain.postlike.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     Optional<PostLike> findByMemberIdAndPostId(Long memberId, Long postId);
 
+    /**
+     * 주어진 글 중에서 회원이 좋아요한 글의 id 를 한 번에 조회한다.
+     */
+    @Query("select pl.post.id from PostLike pl where pl.member.id = :memberId and pl.post.id in :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 좋아요가 없을 때만 한 문장으로 추가하고, 추가된 행 수를 반환한다.
+     * 동시에 같은 좋아요를 추가하면 (MEMBER_ID, POST_ID) 유니크 제약으로 하나만 성공한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into post_like (member_id, post_id) " +
+            "select :memberId, p.id " +
+            "from post p " +
+            "where p.id = :postId " +
+            "   and not exists (select 1 from post_like pl where pl.member_id = :memberId and pl.post_id = :postId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요가 있을 때만 삭제하고, 삭제된 행 수를 반환한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from PostLike pl where pl.member.id = :memberId and pl.post.id = :postId")
+    int deleteIfPresent(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
 }
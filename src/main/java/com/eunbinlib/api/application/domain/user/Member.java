@@ -26,6 +26,13 @@ public class Member extends User {
     @Embedded
     private Nickname nickname;
 
+    /**
+     * 닉네임이 바뀔 때마다 증가한다. 토큰에 담긴 세션 정보가 최신인지 판단하는 데 사용한다.
+     * 회원이 이미 있는 테이블에도 컬럼을 추가할 수 있도록 기본값을 둔다.
+     */
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long sessionVersion;
+
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "PROFILE_IMAGE_FILE_ID")
     private ProfileImageFile profileImageFile;
@@ -53,7 +60,11 @@ public class Member extends User {
     }
 
     public void update(final String nickname, final BaseImageFile baseImageFile) {
-        this.nickname = nickname != null ? new Nickname(nickname) : this.nickname;
+        Nickname newNickname = nickname != null ? new Nickname(nickname) : this.nickname;
+        if (!newNickname.getValue().equals(this.nickname.getValue())) {
+            this.nickname = newNickname;
+            this.sessionVersion++;
+        }
         this.profileImageFile = baseImageFile != null
                 ? ProfileImageFile.builder()
                         .baseImageFile(baseImageFile)
@@ -0,0 +1,31 @@
+package com.eunbinlib.api.application.dto.request;
+
+import com.eunbinlib.api.application.utils.PageCursor;
+import lombok.*;
+
+import static java.lang.Math.*;
+
+@Getter
+@Setter
+public class CommentReadRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final String cursor;
+    private final Integer size;
+
+    @Builder
+    public CommentReadRequest(String cursor, Integer size) {
+        this.cursor = cursor;
+        this.size = size != null ? size : DEFAULT_SIZE;
+    }
+
+    public long getLimit() {
+        return min(size, MAX_SIZE);
+    }
+
+    public Long getAfterCondition() {
+        return PageCursor.resolveAfter(cursor, null);
+    }
+}
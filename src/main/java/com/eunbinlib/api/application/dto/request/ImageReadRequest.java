@@ -1,6 +1,6 @@
 package com.eunbinlib.api.application.dto.request;
 
-import lombok.AllArgsConstructor;
+import com.eunbinlib.api.application.utils.PageCursor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -10,7 +10,6 @@ import static java.lang.Math.min;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class ImageReadRequest {
 
     public static final int DEFAULT_SIZE = 20;
@@ -20,6 +19,18 @@ public class ImageReadRequest {
 
     private Integer size;
 
+    private String cursor;
+
+    public ImageReadRequest(Long after, Integer size) {
+        this(after, size, null);
+    }
+
+    public ImageReadRequest(Long after, Integer size, String cursor) {
+        this.after = after;
+        this.size = size;
+        this.cursor = cursor;
+    }
+
     public Integer getSize() {
         return size != null ? size : DEFAULT_SIZE;
     }
@@ -27,4 +38,8 @@ public class ImageReadRequest {
     public long getLimit() {
         return min(getSize(), MAX_SIZE);
     }
+
+    public Long getAfterCondition() {
+        return PageCursor.resolveAfter(cursor, after);
+    }
 }
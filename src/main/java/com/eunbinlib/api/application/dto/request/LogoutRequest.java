@@ -0,0 +1,16 @@
+package com.eunbinlib.api.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+
+    @NotBlank(message = "리프레시 토큰을 입력해주세요.")
+    private String refreshToken;
+}
@@ -1,5 +1,6 @@
 package com.eunbinlib.api.application.dto.request;
 
+import com.eunbinlib.api.application.utils.PageCursor;
 import lombok.*;
 
 import static java.lang.Math.*;
@@ -12,15 +13,21 @@ public class PostReadRequest {
     public static final int MAX_SIZE = 100;
 
     private final Long after;
+    private final String cursor;
     private final Integer size;
 
     @Builder
-    public PostReadRequest(Long after, Integer size) {
+    public PostReadRequest(Long after, String cursor, Integer size) {
         this.after = after;
+        this.cursor = cursor;
         this.size = size != null ? size : DEFAULT_SIZE;
     }
 
     public long getLimit() {
         return min(size, MAX_SIZE);
     }
+
+    public Long getAfterCondition() {
+        return PageCursor.resolveAfter(cursor, after);
+    }
 }
@@ -0,0 +1,39 @@
+package com.eunbinlib.api.application.dto.request;
+
+import com.eunbinlib.api.application.utils.PageCursor;
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+import static java.lang.Math.*;
+
+@Getter
+@Setter
+public class PostSearchRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    @NotBlank(message = "검색어를 입력해주세요.")
+    @Size(max = MAX_QUERY_LENGTH, message = "검색어는 100자 이하로 입력해주세요.")
+    private final String query;
+    private final String cursor;
+    private final Integer size;
+
+    @Builder
+    public PostSearchRequest(String query, String cursor, Integer size) {
+        this.query = query;
+        this.cursor = cursor;
+        this.size = size != null ? size : DEFAULT_SIZE;
+    }
+
+    public long getLimit() {
+        return min(size, MAX_SIZE);
+    }
+
+    public Long getAfterCondition() {
+        return PageCursor.resolveAfter(cursor, null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.eunbinlib.api.application.dto.request;
+
+import com.eunbinlib.api.application.utils.PageCursor;
+import lombok.*;
+
+import static java.lang.Math.*;
+
+@Getter
+@Setter
+public class PostTrendingRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final String cursor;
+    private final Integer size;
+
+    @Builder
+    public PostTrendingRequest(String cursor, Integer size) {
+        this.cursor = cursor;
+        this.size = size != null ? size : DEFAULT_SIZE;
+    }
+
+    /**
+     * 0 이하의 크기는 한 건으로 읽는다.
+     */
+    public int getLimit() {
+        return max(1, min(size, MAX_SIZE));
+    }
+
+    /**
+     * 순위는 계속 바뀌므로 글 id 대신 순위에서의 위치를 커서로 쓴다.
+     */
+    public int getOffset() {
+        return cursor != null ? (int) max(0L, min(PageCursor.decode(cursor), Integer.MAX_VALUE)) : 0;
+    }
+}
@@ -2,15 +2,19 @@ package com.eunbinlib.api.application.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 public class PaginationMeta {
     private final Integer size;
     private final Boolean hasMore;
+    private final String nextCursor;
 
     @Builder
-    private PaginationMeta(Integer size, Boolean hasMore) {
+    @Jacksonized
+    private PaginationMeta(Integer size, Boolean hasMore, String nextCursor) {
         this.size = size;
         this.hasMore = hasMore;
+        this.nextCursor = nextCursor;
     }
 }
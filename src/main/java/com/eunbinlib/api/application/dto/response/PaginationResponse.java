@@ -1,9 +1,12 @@
 package com.eunbinlib.api.application.dto.response;
 
+import com.eunbinlib.api.application.utils.PageCursor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
 public class PaginationResponse<T> {
@@ -15,5 +18,28 @@ public class PaginationResponse<T> {
         this.meta = meta;
         this.data = data;
     }
-}
 
+    /**
+     * limit + 1 개까지 조회한 결과로 응답을 만든다.
+     * 한 개가 더 조회됐으면 다음 페이지가 있다는 뜻이므로, 별도의 존재 여부 조회 없이 hasMore 를 결정한다.
+     */
+    public static <E, T> PaginationResponse<T> fromRows(List<E> rows, long limit, Function<E, Long> idGetter, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, (int) limit) : rows;
+
+        List<T> data = page.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        PaginationMeta meta = PaginationMeta.builder()
+                .size(data.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? PageCursor.encode(idGetter.apply(page.get(page.size() - 1))) : null)
+                .build();
+
+        return PaginationResponse.<T>builder()
+                .meta(meta)
+                .data(data)
+                .build();
+    }
+}
@@ -1,6 +1,6 @@
 package com.eunbinlib.api.application.dto.response;
 
-import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,17 +10,26 @@ public class PostResponse {
     private final Long id;
     private final String title;
     private final String content;
+    private final Long commentCount;
+    private final boolean likedByMe;
 
     @Builder
-    public PostResponse(Long id, String title, String content) {
+    public PostResponse(Long id, String title, String content, Long commentCount, boolean likedByMe) {
         this.id = id;
         this.title = title;
         this.content = content;
+        this.commentCount = commentCount;
+        this.likedByMe = likedByMe;
     }
 
-    public PostResponse(Post post) {
-        this.id = post.getId();
-        this.title = post.getTitle();
-        this.content = post.getContent();
+    /**
+     * 목록에서는 본문 전체 대신 앞부분(excerpt)만 content 로 내려준다. 전체 본문은 상세 조회에서 제공한다.
+     */
+    public PostResponse(PostSummary postSummary, boolean likedByMe) {
+        this.id = postSummary.getId();
+        this.title = postSummary.getTitle();
+        this.content = postSummary.getExcerpt();
+        this.commentCount = postSummary.getCommentCount();
+        this.likedByMe = likedByMe;
     }
 }
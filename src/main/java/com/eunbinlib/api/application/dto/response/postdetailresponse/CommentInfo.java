@@ -1,29 +1,59 @@
 package com.eunbinlib.api.application.dto.response.postdetailresponse;
 
-import com.eunbinlib.api.application.domain.comment.Comment;
+import com.eunbinlib.api.application.domain.repository.comment.CommentRow;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class CommentInfo {
 
     private final Long id;
 
+    private final Long parentId;
+
+    /**
+     * 삭제된 댓글이면 내용과 작성자가 null
+     */
     private final String content;
 
+    private final Boolean deleted;
+
     private final LocalDateTime createdDate;
 
     private final WriterInfo writer;
 
-    public static CommentInfo from(final Comment comment) {
+    private final Long replyCount;
+
+    /**
+     * 깊이와 상관없이 스레드에 달린 전체 답글 수. 루트 댓글에만 있고, 그 밖에는 null
+     */
+    private final Long threadReplyCount;
+
+    private final List<CommentInfo> replies;
+
+    /**
+     * 불러오지 않은 답글이 남아 있으면 답글 목록 조회에 넘길 커서, 없으면 null
+     */
+    private final String nextReplyCursor;
+
+    public static CommentInfo from(final CommentRow row, final List<CommentInfo> replies, final String nextReplyCursor) {
         return CommentInfo.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .createdDate(comment.getCreatedDate())
-                .writer(WriterInfo.from(comment.getMember()))
+                .id(row.getId())
+                .parentId(row.getParentId())
+                .content(row.getContent())
+                .deleted(row.isDeleted())
+                .createdDate(row.getCreatedDate())
+                .writer(row.isDeleted() ? null : WriterInfo.of(row.getWriterId(), row.getWriterNickname(), row.getWriterProfileImage()))
+                .replyCount(row.getReplyCount())
+                .threadReplyCount(row.getThreadReplyCount())
+                .replies(replies)
+                .nextReplyCursor(nextReplyCursor)
                 .build();
     }
 }
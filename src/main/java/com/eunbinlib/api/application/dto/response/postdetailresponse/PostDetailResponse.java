@@ -1,31 +1,37 @@
 package com.eunbinlib.api.application.dto.response.postdetailresponse;
 
-import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.dto.response.PaginationMeta;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
+@Jacksonized
 public class PostDetailResponse {
 
     private final PostInfo post;
 
+    /**
+     * 댓글 첫 페이지. 다음 페이지는 commentsMeta 의 커서로 댓글 목록을 조회한다.
+     */
     private final List<CommentInfo> comments;
 
-    public static PostDetailResponse from(final Post post) {
-        PostInfo postInfo = PostInfo.from(post);
-
-        List<CommentInfo> commentInfos = post.getComments()
-                .stream()
-                .map(CommentInfo::from)
-                .collect(Collectors.toList());
+    private final PaginationMeta commentsMeta;
 
+    /**
+     * 캐시된 본문은 그대로 두고, 조회수와 좋아요 수만 최신 값으로 바꾼 응답을 만든다.
+     */
+    public PostDetailResponse withCounters(final long viewCount, final long likeCount) {
         return PostDetailResponse.builder()
-                .post(postInfo)
-                .comments(commentInfos)
+                .post(post.toBuilder()
+                        .viewCount(viewCount)
+                        .likeCount(likeCount)
+                        .build())
+                .comments(comments)
+                .commentsMeta(commentsMeta)
                 .build();
     }
 }
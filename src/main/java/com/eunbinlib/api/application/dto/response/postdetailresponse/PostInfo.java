@@ -1,16 +1,16 @@
 package com.eunbinlib.api.application.dto.response.postdetailresponse;
 
-import com.eunbinlib.api.application.domain.imagefile.PostImageFile;
-import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.repository.post.PostDetailRow;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class PostInfo {
 
     private final Long id;
@@ -29,27 +29,18 @@ public class PostInfo {
 
     private final WriterInfo writer;
 
-    public static PostInfo from(final Post post) {
-        WriterInfo writerInfo = WriterInfo.from(post.getMember());
-
-        List<String> postImageUrls = generatePostImageUrls(post.getImages());
+    public static PostInfo from(final PostDetailRow row, final List<String> postImageUrls) {
+        WriterInfo writerInfo = WriterInfo.of(row.getWriterId(), row.getWriterNickname(), row.getWriterProfileImage());
 
         return PostInfo.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .createdDate(post.getCreatedDate())
+                .id(row.getId())
+                .title(row.getTitle())
+                .content(row.getContent())
+                .createdDate(row.getCreatedDate())
                 .postImageUrls(postImageUrls)
-                .viewCount(post.getViewCount())
-                .likeCount(post.getLikeCount())
+                .viewCount(row.getViewCount())
+                .likeCount(row.getLikeCount())
                 .writer(writerInfo)
                 .build();
     }
-
-    private static List<String> generatePostImageUrls(final List<PostImageFile> images) {
-        // TODO: change to AWS S3 URL
-        return images.stream()
-                .map(e -> e.getBaseImageFile().getStoredFilename())
-                .collect(Collectors.toList());
-    }
 }
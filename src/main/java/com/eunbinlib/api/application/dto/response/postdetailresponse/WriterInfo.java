@@ -1,12 +1,12 @@
 package com.eunbinlib.api.application.dto.response.postdetailresponse;
 
-import com.eunbinlib.api.application.domain.imagefile.ProfileImageFile;
-import com.eunbinlib.api.application.domain.user.Member;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class WriterInfo {
 
     private Long id;
@@ -15,24 +15,20 @@ public class WriterInfo {
 
     private String profileImageUrl;
 
-    public static WriterInfo from(final Member member) {
-        String profileImageUrl = generateProfileImageUrl(member.getProfileImageFile());
-
+    public static WriterInfo of(final Long id, final String nickname, final String profileImageFilename) {
         return WriterInfo.builder()
-                .id(member.getId())
-                .nickname(member.getNickname().getValue())
-                .profileImageUrl(profileImageUrl)
+                .id(id)
+                .nickname(nickname)
+                .profileImageUrl(generateProfileImageUrl(profileImageFilename))
                 .build();
     }
 
-    private static String generateProfileImageUrl(final ProfileImageFile profileImageFile) {
-        if (profileImageFile == null) {
+    private static String generateProfileImageUrl(final String profileImageFilename) {
+        if (profileImageFilename == null) {
             return "default_profile";
         }
 
         // TODO: change to AWS S3 URI
-        return profileImageFile
-                .getBaseImageFile()
-                .getStoredFilename();
+        return profileImageFilename;
     }
 }
@@ -0,0 +1,14 @@
+package com.eunbinlib.api.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원의 차단 목록이 변경되었음을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BlockChangedEvent {
+
+    private final Long blockerId;
+}
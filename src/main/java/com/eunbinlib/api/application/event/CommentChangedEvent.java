@@ -0,0 +1,14 @@
+package com.eunbinlib.api.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 글에 댓글이 작성, 수정 또는 삭제되었음을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    private final Long postId;
+}
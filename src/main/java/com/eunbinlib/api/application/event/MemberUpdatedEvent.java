@@ -0,0 +1,18 @@
+package com.eunbinlib.api.application.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 정보(닉네임, 프로필 이미지)가 변경되었음을 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberUpdatedEvent {
+
+    private final Long memberId;
+
+    private final String username;
+
+    private final long sessionVersion;
+}
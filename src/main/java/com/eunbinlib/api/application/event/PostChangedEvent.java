@@ -0,0 +1,23 @@
+package com.eunbinlib.api.application.event;
+
+import lombok.Getter;
+
+/**
+ * 글이 작성, 수정 또는 삭제되었음을 알린다.
+ */
+@Getter
+public class PostChangedEvent {
+
+    private final Long postId;
+
+    private final boolean deleted;
+
+    public PostChangedEvent(Long postId) {
+        this(postId, false);
+    }
+
+    public PostChangedEvent(Long postId, boolean deleted) {
+        this.postId = postId;
+        this.deleted = deleted;
+    }
+}
@@ -2,6 +2,7 @@ package com.eunbinlib.api.application.exception.handler;
 
 import com.eunbinlib.api.application.dto.response.ErrorResponse;
 import com.eunbinlib.api.application.exception.type.EunbinlibException;
+import com.eunbinlib.api.auth.exception.type.EunbinlibAuthException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,4 +27,21 @@ public class CustomExceptionHandler {
                 .body(body);
     }
 
+    /**
+     * 컨트롤러(비동기 처리 포함)에서 발생한 인증 예외는 상태 코드를 그대로 응답한다.
+     */
+    @ResponseBody
+    @ExceptionHandler(EunbinlibAuthException.class)
+    public ResponseEntity<ErrorResponse> eunbinlibAuthException(EunbinlibAuthException e) {
+        int statusCode = e.getStatusCode();
+
+        ErrorResponse body = ErrorResponse.builder()
+                .code(String.valueOf(statusCode))
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity
+                .status(statusCode)
+                .body(body);
+    }
 }
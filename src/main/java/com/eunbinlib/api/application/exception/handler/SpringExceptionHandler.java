@@ -6,6 +6,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -80,6 +81,17 @@ public class SpringExceptionHandler {
         return response;
     }
 
+    @ResponseBody
+    @ResponseStatus(HttpStatus.METHOD_NOT_ALLOWED)
+    @ExceptionHandler
+    public ErrorResponse methodNotSupportedHandler(final HttpRequestMethodNotSupportedException e) {
+
+        return ErrorResponse.builder()
+                .code(String.valueOf(HttpStatus.METHOD_NOT_ALLOWED.value()))
+                .message(e.getMessage())
+                .build();
+    }
+
     @ResponseBody
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler
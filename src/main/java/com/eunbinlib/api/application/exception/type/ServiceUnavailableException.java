@@ -0,0 +1,21 @@
+package com.eunbinlib.api.application.exception.type;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 작업 대기열이 가득 차서 요청을 처리할 수 없는 경우
+ * status -> 503
+ */
+public class ServiceUnavailableException extends EunbinlibException {
+
+    private static final String MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    public ServiceUnavailableException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+}
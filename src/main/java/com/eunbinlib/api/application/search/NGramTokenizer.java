@@ -0,0 +1,72 @@
+package com.eunbinlib.api.application.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어는 조사와 어미가 단어에 붙어 있어서 공백 단위로 자르면 "도서관에서" 로 "도서관" 을 찾을 수 없다.
+ * 형태소 분석 대신 단어를 두 글자씩 겹쳐 자른 bigram 과 한 글자 unigram 을 색인어로 쓴다.
+ * 검색어도 같은 방식으로 자르되, 두 글자 이상인 단어는 bigram 만, 한 글자 단어는 unigram 만 쓴다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 문서(제목, 본문)의 색인어
+     */
+    public static Set<String> indexTerms(final String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (String word : words(text)) {
+                word.codePoints()
+                        .forEach(codePoint -> terms.add(new String(Character.toChars(codePoint))));
+                addBigrams(word, terms);
+            }
+        }
+
+        return terms;
+    }
+
+    /**
+     * 검색어의 색인어. 문서는 이 색인어를 모두 가지고 있어야 검색된다.
+     */
+    public static Set<String> queryTerms(final String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.codePointCount(0, word.length()) == 1) {
+                terms.add(word);
+            } else {
+                addBigrams(word, terms);
+            }
+        }
+
+        return terms;
+    }
+
+    private static void addBigrams(final String word, final Set<String> terms) {
+        int[] codePoints = word.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+
+    /**
+     * 호환 문자(전각 영문, 반각 가타카나 등)를 정규화하고 소문자로 바꾼 뒤, 글자와 숫자가 아닌 문자를 기준으로 나눈다.
+     */
+    private static String[] words(final String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .strip();
+
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+}
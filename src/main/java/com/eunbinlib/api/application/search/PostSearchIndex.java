@@ -0,0 +1,247 @@
+package com.eunbinlib.api.application.search;
+
+import com.eunbinlib.api.application.domain.repository.post.PostSearchRow;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 글 제목과 본문을 {@link NGramTokenizer} 로 자른 색인어에서 글 id 목록으로 가는 메모리 역색인.
+ * 검색은 검색어의 색인어를 모두 가진 글을 최신 글부터 찾는다.
+ * 가장 짧은 목록을 뒤에서부터 훑으면서 나머지 목록은 이진 탐색으로 확인하므로, 본문을 읽지 않는다.
+ * <p>
+ * 다시 만드는 중에 들어온 변경은 현재 색인과 새 색인에 모두 반영하고,
+ * 새 색인을 채울 때는 그 글을 건너뛰어서 오래된 값으로 덮어쓰지 않는다.
+ */
+@Component
+public class PostSearchIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment current = new Segment();
+
+    private Segment rebuilding;
+
+    private Set<Long> changedWhileRebuilding;
+
+    public void upsert(PostSearchRow row) {
+        Document document = toDocument(row);
+
+        lock.writeLock().lock();
+        try {
+            current.put(row.getId(), document);
+            if (rebuilding != null) {
+                rebuilding.put(row.getId(), document);
+                changedWhileRebuilding.add(row.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            current.remove(postId);
+            if (rebuilding != null) {
+                rebuilding.remove(postId);
+                changedWhileRebuilding.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 색인어를 모두 가진 글 중 id 가 after 보다 작은 글을 최신 글부터 limit 개까지 찾는다.
+     */
+    public List<Long> search(String query, Long after, int limit, LongPredicate excludedMember) {
+        Set<String> terms = NGramTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = current.postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            PostingList shortest = lists.get(0);
+            List<Long> result = new ArrayList<>(limit);
+            for (int i = after == null ? shortest.size() - 1 : shortest.lastIndexBefore(after); i >= 0; i--) {
+                long postId = shortest.get(i);
+                if (containsAll(lists, postId) && !excludedMember.test(current.documents.get(postId).memberId)) {
+                    result.add(postId);
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Segment();
+            changedWhileRebuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addToRebuild(List<PostSearchRow> rows) {
+        List<Map.Entry<Long, Document>> documents = new ArrayList<>(rows.size());
+        for (PostSearchRow row : rows) {
+            documents.add(Map.entry(row.getId(), toDocument(row)));
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Document> document : documents) {
+                if (!changedWhileRebuilding.contains(document.getKey())) {
+                    rebuilding.put(document.getKey(), document.getValue());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            current = rebuilding;
+            rebuilding = null;
+            changedWhileRebuilding = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다시 만들다가 실패하면 새 색인을 버리고 현재 색인을 그대로 쓴다.
+     */
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = null;
+            changedWhileRebuilding = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isRebuilding() {
+        lock.readLock().lock();
+        try {
+            return rebuilding != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            current = new Segment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return current.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return current.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Document toDocument(PostSearchRow row) {
+        return new Document(row.getMemberId(),
+                NGramTokenizer.indexTerms(row.getTitle(), row.getContent()).toArray(String[]::new));
+    }
+
+    private static boolean containsAll(List<PostingList> lists, long postId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(postId)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static class Document {
+
+        private final long memberId;
+
+        private final String[] terms;
+
+        private Document(long memberId, String[] terms) {
+            this.memberId = memberId;
+            this.terms = terms;
+        }
+    }
+
+    private static class Segment {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        private void put(Long postId, Document document) {
+            remove(postId);
+
+            documents.put(postId, document);
+            for (String term : document.terms) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(postId);
+            }
+        }
+
+        private void remove(Long postId) {
+            Document removed = documents.remove(postId);
+            if (removed == null) {
+                return;
+            }
+
+            for (String term : removed.terms) {
+                PostingList list = postings.get(term);
+                list.remove(postId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
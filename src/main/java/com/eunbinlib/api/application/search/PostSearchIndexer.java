@@ -0,0 +1,142 @@
+package com.eunbinlib.api.application.search;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.domain.repository.post.PostSearchRow;
+import com.eunbinlib.api.application.event.PostChangedEvent;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 검색 색인을 DB 와 맞춘다. 시작할 때 글을 id 순으로 나누어 읽어 색인을 새로 만들고,
+ * 글이 작성/수정/삭제되면 커밋 이후에 해당 글만 다시 읽어 반영한다.
+ * 색인은 노드마다 따로 있으므로 다른 노드에도 pub/sub 으로 변경된 글 id 를 알린다.
+ * 커밋 이후 반영이나 알림이 빠진 글은 주기적으로 최근에 수정된 글을 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndexer {
+
+    public static final String CHANNEL = "search";
+
+    private final PostSearchIndex postSearchIndex;
+
+    private final PostRepository postRepository;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    private final int chunkSize;
+
+    private final Duration catchUpOverlap;
+
+    private LocalDateTime caughtUpTo = LocalDateTime.now();
+
+    public PostSearchIndexer(PostSearchIndex postSearchIndex,
+                             PostRepository postRepository,
+                             CacheInvalidationBus invalidationBus,
+                             @Value("${search.rebuild-chunk-size:500}") int chunkSize,
+                             @Value("${search.catch-up-overlap-millis:10000}") long catchUpOverlapMillis
+    ) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+        this.invalidationBus = invalidationBus;
+        this.chunkSize = chunkSize;
+        this.catchUpOverlap = Duration.ofMillis(catchUpOverlapMillis);
+
+        invalidationBus.subscribe(CHANNEL, this::onRemoteChange);
+    }
+
+    /**
+     * 본문(@Lob)까지 읽어야 하므로 전체를 한 번에 읽지 않고 chunkSize 개씩 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        postSearchIndex.startRebuild();
+
+        try {
+            Long after = null;
+            while (true) {
+                List<PostSearchRow> rows = postRepository.findSearchRows(after, chunkSize);
+                postSearchIndex.addToRebuild(rows);
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+                after = rows.get(rows.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            postSearchIndex.abortRebuild();
+            throw e;
+        }
+
+        postSearchIndex.finishRebuild();
+        caughtUpTo = startedAt;
+        log.info("search index rebuilt: posts={}, terms={}", postSearchIndex.getDocumentCount(), postSearchIndex.getTermCount());
+    }
+
+    /**
+     * 마지막으로 맞춘 시각 이후에 수정된 글을 다시 읽어 반영한다.
+     * 늦게 커밋된 트랜잭션과 노드 사이 시각 차이를 덮도록 catchUpOverlap 만큼 겹쳐 읽는다. 같은 글을 다시 반영해도 결과는 같다.
+     *
+     * @return 다시 읽은 글 수
+     */
+    @Scheduled(fixedDelayString = "${search.catch-up-interval-millis:60000}",
+            initialDelayString = "${search.catch-up-interval-millis:60000}")
+    public synchronized int catchUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Long> postIds = postRepository.findIdsModifiedSince(caughtUpTo.minus(catchUpOverlap));
+
+        for (int from = 0; from < postIds.size(); from += chunkSize) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + chunkSize, postIds.size()));
+            Set<Long> removed = new HashSet<>(chunk);
+            for (PostSearchRow row : postRepository.findSearchRowsByIds(chunk)) {
+                postSearchIndex.upsert(row);
+                removed.remove(row.getId());
+            }
+            removed.forEach(postSearchIndex::remove);
+        }
+
+        caughtUpTo = startedAt;
+        return postIds.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        refresh(event.getPostId());
+        invalidationBus.publishEvict(CHANNEL, String.valueOf(event.getPostId()));
+    }
+
+    private void refresh(Long postId) {
+        Optional<PostSearchRow> row = postRepository.findSearchRow(postId);
+        if (row.isPresent()) {
+            postSearchIndex.upsert(row.get());
+        } else {
+            postSearchIndex.remove(postId);
+        }
+    }
+
+    private void onRemoteChange(String key) {
+        if (key == null) {
+            rebuild();
+            return;
+        }
+
+        try {
+            refresh(Long.parseLong(key));
+        } catch (NumberFormatException e) {
+            log.warn("invalid search index message: {}", key, e);
+        }
+    }
+}
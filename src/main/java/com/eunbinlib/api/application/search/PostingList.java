@@ -0,0 +1,74 @@
+package com.eunbinlib.api.application.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 색인어를 가진 글 id 목록. 오름차순으로 정렬된 long 배열 하나로 보관한다.
+ * 글 id 는 작성 순으로 커지므로 새 글은 대부분 배열 끝에 붙는다.
+ * 동기화하지 않으므로 {@link PostSearchIndex} 의 잠금 안에서만 사용한다.
+ */
+class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            insert(-index - 1, id);
+            return;
+        }
+
+        insert(size, id);
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        --size;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * id 가 before 보다 작은 마지막 항목의 위치. 없으면 -1
+     */
+    int lastIndexBefore(long before) {
+        int index = Arrays.binarySearch(ids, 0, size, before);
+        return (index >= 0 ? index : -index - 1) - 1;
+    }
+
+    private void insert(int index, long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        ++size;
+    }
+}
@@ -3,8 +3,10 @@ package com.eunbinlib.api.application.service;
 import com.eunbinlib.api.application.domain.block.Block;
 import com.eunbinlib.api.application.domain.repository.block.BlockRepository;
 import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.event.BlockChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -16,6 +18,7 @@ public class BlockService {
 
     private final UserService userService;
     private final BlockRepository blockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void blockUser(Long blockerId, Long blockedId) {
@@ -32,6 +35,8 @@ public class BlockService {
                 .blocked(blocked)
                 .build()
         );
+
+        eventPublisher.publishEvent(new BlockChangedEvent(blockerId));
     }
 
     @Transactional
@@ -40,5 +45,7 @@ public class BlockService {
         Member blocked = userService.findMemberById(blockedId);
 
         blockRepository.deleteByBlockerAndBlocked(blocker, blocked);
+
+        eventPublisher.publishEvent(new BlockChangedEvent(blockerId));
     }
 }
@@ -1,16 +1,26 @@
 package com.eunbinlib.api.application.service;
 
 import com.eunbinlib.api.application.domain.comment.Comment;
+import com.eunbinlib.api.application.domain.comment.CommentPath;
+import com.eunbinlib.api.application.domain.comment.CommentState;
 import com.eunbinlib.api.application.domain.post.Post;
 import com.eunbinlib.api.application.domain.repository.comment.CommentRepository;
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
 import com.eunbinlib.api.application.domain.user.Member;
 import com.eunbinlib.api.application.dto.request.CommentCreateRequest;
+import com.eunbinlib.api.application.dto.request.CommentReadRequest;
 import com.eunbinlib.api.application.dto.request.CommentUpdateRequest;
 import com.eunbinlib.api.application.dto.response.OnlyIdResponse;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.CommentInfo;
+import com.eunbinlib.api.application.event.CommentChangedEvent;
 import com.eunbinlib.api.application.exception.type.ForbiddenAccessException;
+import com.eunbinlib.api.application.exception.type.InvalidRequestException;
 import com.eunbinlib.api.application.exception.type.notfound.CommentNotFoundException;
+import com.eunbinlib.api.application.trending.TrendingPosts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -24,13 +34,33 @@ public class CommentService {
 
     private final PostService postService;
 
+    private final PostRepository postRepository;
+
     private final UserService userService;
 
+    private final CommentThreadReader commentThreadReader;
+
+    private final TrendingPosts trendingPosts;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     public Comment findById(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(CommentNotFoundException::new);
     }
 
+    public PaginationResponse<CommentInfo> readMany(Long postId, CommentReadRequest commentReadRequest) {
+        return commentThreadReader.readThreads(postId, commentReadRequest.getAfterCondition(), commentReadRequest.getLimit());
+    }
+
+    public PaginationResponse<CommentInfo> readReplies(Long commentId, CommentReadRequest commentReadRequest) {
+        return commentThreadReader.readReplies(commentId, commentReadRequest.getAfterCondition(), commentReadRequest.getLimit());
+    }
+
+    public PaginationResponse<CommentInfo> readSubtree(Long commentId, CommentReadRequest commentReadRequest) {
+        return commentThreadReader.readSubtree(commentId, commentReadRequest.getAfterCondition(), commentReadRequest.getLimit());
+    }
+
     @Transactional
     public OnlyIdResponse create(Long userId, CommentCreateRequest commentCreateRequest) {
         Member member = userService.findMemberById(userId);
@@ -39,11 +69,17 @@ public class CommentService {
         Comment parent = null;
         if (commentCreateRequest.getParentId() != null) {
             parent = findById(commentCreateRequest.getParentId());
+            parent.fillPathIfMissing();
+            validateDepth(parent);
         }
 
         Comment comment = commentCreateRequest.toEntity(member, post, parent);
 
         commentRepository.save(comment);
+        postRepository.addCommentCount(post.getId(), 1L);
+        trendingPosts.recordComment(post.getId());
+
+        eventPublisher.publishEvent(new CommentChangedEvent(post.getId()));
 
         return OnlyIdResponse.builder()
                 .id(comment.getId())
@@ -57,6 +93,8 @@ public class CommentService {
         validateWriter(userId, comment.getMember().getId());
 
         comment.update(commentUpdateRequest.getContent());
+
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId()));
     }
 
     @Transactional
@@ -65,7 +103,21 @@ public class CommentService {
 
         validateWriter(userId, comment.getMember().getId());
 
+        // NOTE: 이미 삭제된 댓글을 다시 삭제해도 댓글 수가 두 번 줄지 않도록 한다.
+        if (comment.getState() == CommentState.DELETED) {
+            return;
+        }
+
         comment.delete();
+        postRepository.addCommentCount(comment.getPost().getId(), -1L);
+
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId()));
+    }
+
+    private void validateDepth(Comment parent) {
+        if (!CommentPath.canAppendTo(parent.getPath())) {
+            throw new InvalidRequestException("parentId", "더 이상 답글을 달 수 없습니다.");
+        }
     }
 
     private void validateWriter(Long userId, Long commentWriterId) {
@@ -0,0 +1,102 @@
+package com.eunbinlib.api.application.service;
+
+import com.eunbinlib.api.application.domain.repository.comment.CommentRepository;
+import com.eunbinlib.api.application.domain.repository.comment.CommentRow;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.CommentInfo;
+import com.eunbinlib.api.application.exception.type.notfound.CommentNotFoundException;
+import com.eunbinlib.api.application.utils.PageCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글을 id 커서로 한 페이지씩 읽고, 페이지의 댓글마다 앞쪽 답글 몇 개를 붙여서 스레드로 만든다.
+ * 답글은 댓글 id 로 묶어서 한 번에 조회하고 부모 id 로 붙이므로, 조회 횟수와 조립 비용이 답글 수에 비례해서 늘지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentThreadReader {
+
+    public static final int REPLIES_PER_THREAD = 3;
+
+    private final CommentRepository commentRepository;
+
+    @Transactional(readOnly = true)
+    public PaginationResponse<CommentInfo> readThreads(Long postId, Long after, long limit) {
+        List<CommentRow> roots = commentRepository.findRootRows(postId, after, limit + 1);
+
+        Map<Long, List<CommentRow>> repliesByParent = findFirstReplies(roots.subList(0, (int) Math.min(roots.size(), limit)));
+
+        return PaginationResponse.fromRows(roots, limit, CommentRow::getId,
+                root -> toThread(root, repliesByParent.getOrDefault(root.getId(), List.of())));
+    }
+
+    @Transactional(readOnly = true)
+    public PaginationResponse<CommentInfo> readReplies(Long parentId, Long after, long limit) {
+        List<CommentRow> replies = commentRepository.findReplyRows(parentId, after, limit + 1);
+
+        return PaginationResponse.fromRows(replies, limit, CommentRow::getId, CommentThreadReader::toInfo);
+    }
+
+    /**
+     * 댓글 아래의 모든 하위 댓글을 깊이와 상관없이 화면에 보이는 순서로 읽는다.
+     * 부모를 따라 한 단계씩 내려가지 않고 경로 범위 조회 한 번으로 가져오며, 클라이언트는 parentId 로 트리를 만든다.
+     */
+    @Transactional(readOnly = true)
+    public PaginationResponse<CommentInfo> readSubtree(Long commentId, Long after, long limit) {
+        String path = commentRepository.findPathById(commentId)
+                .orElseThrow(CommentNotFoundException::new);
+
+        List<CommentRow> rows = commentRepository.findSubtreeRows(path, after, limit + 1);
+
+        return PaginationResponse.fromRows(rows, limit, CommentRow::getId, row -> CommentInfo.from(row, List.of(), null));
+    }
+
+    /**
+     * 삭제된 답글도 자리를 지키며 목록에 남고 답글 수에서는 빠지므로, 답글 수와 비교하지 않고 한 개 더 읽어서 남은 답글이 있는지 본다.
+     */
+    private Map<Long, List<CommentRow>> findFirstReplies(List<CommentRow> parents) {
+        List<Long> parentIds = parents.stream()
+                .map(CommentRow::getId)
+                .collect(Collectors.toList());
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<CommentRow>> repliesByParent = new HashMap<>();
+        for (CommentRow reply : commentRepository.findFirstReplyRows(parentIds, REPLIES_PER_THREAD + 1)) {
+            repliesByParent.computeIfAbsent(reply.getParentId(), key -> new ArrayList<>())
+                    .add(reply);
+        }
+
+        return repliesByParent;
+    }
+
+    /**
+     * 불러오지 않은 답글이 남아 있으면, 마지막으로 불러온 답글 다음부터 이어서 조회할 커서를 붙인다.
+     */
+    private static CommentInfo toThread(CommentRow root, List<CommentRow> replies) {
+        boolean hasMoreReplies = replies.size() > REPLIES_PER_THREAD;
+        List<CommentRow> firstReplies = hasMoreReplies ? replies.subList(0, REPLIES_PER_THREAD) : replies;
+
+        return CommentInfo.from(root,
+                firstReplies.stream()
+                        .map(CommentThreadReader::toInfo)
+                        .collect(Collectors.toList()),
+                hasMoreReplies ? PageCursor.encode(firstReplies.get(firstReplies.size() - 1).getId()) : null);
+    }
+
+    /**
+     * 답글을 붙이지 않은 댓글은 답글이 있으면 처음부터 조회할 커서를 붙인다.
+     */
+    private static CommentInfo toInfo(CommentRow row) {
+        return CommentInfo.from(row, List.of(), row.getReplyCount() > 0 ? PageCursor.encode(0L) : null);
+    }
+}
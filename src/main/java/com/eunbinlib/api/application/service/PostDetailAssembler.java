@@ -0,0 +1,49 @@
+package com.eunbinlib.api.application.service;
+
+import com.eunbinlib.api.application.domain.repository.post.PostDetailRow;
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.domain.repository.postimagefile.PostImageFileRepository;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.CommentInfo;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.PostDetailResponse;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.PostInfo;
+import com.eunbinlib.api.application.exception.type.notfound.PostNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 글 상세 응답을 글 + 작성자, 사진, 댓글 첫 페이지, 첫 페이지 댓글들의 앞쪽 답글의 네 번 이하의 조회로 조립한다.
+ * 댓글과 답글이 얼마나 많아도 조회 횟수는 바뀌지 않고, 나머지 댓글과 답글은 댓글 목록 조회로 이어서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailAssembler {
+
+    public static final int FIRST_COMMENT_PAGE_SIZE = 20;
+
+    private final PostRepository postRepository;
+
+    private final PostImageFileRepository postImageFileRepository;
+
+    private final CommentThreadReader commentThreadReader;
+
+    @Transactional(readOnly = true)
+    public PostDetailResponse assemble(Long postId) {
+        PostDetailRow row = postRepository.findDetailRow(postId)
+                .orElseThrow(PostNotFoundException::new);
+
+        // TODO: change to AWS S3 URL
+        List<String> postImageUrls = postImageFileRepository.findStoredFilenamesByPostId(postId);
+
+        PaginationResponse<CommentInfo> comments = commentThreadReader.readThreads(postId, null, FIRST_COMMENT_PAGE_SIZE);
+
+        return PostDetailResponse.builder()
+                .post(PostInfo.from(row, postImageUrls))
+                .comments(comments.getData())
+                .commentsMeta(comments.getMeta())
+                .build();
+    }
+}
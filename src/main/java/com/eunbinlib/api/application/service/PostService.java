@@ -1,31 +1,48 @@
 package com.eunbinlib.api.application.service;
 
+import com.eunbinlib.api.application.utils.BlockedMemberCache;
 import com.eunbinlib.api.application.utils.ImageUtils;
+import com.eunbinlib.api.application.utils.LikeCountBuffer;
+import com.eunbinlib.api.application.utils.PostCounterStore;
+import com.eunbinlib.api.application.utils.PostCounterStore.PostCounters;
+import com.eunbinlib.api.application.utils.PostDetailCache;
+import com.eunbinlib.api.application.utils.ViewCountBuffer;
 import com.eunbinlib.api.application.domain.imagefile.BaseImageFile;
 import com.eunbinlib.api.application.domain.post.Post;
 import com.eunbinlib.api.application.domain.post.PostState;
-import com.eunbinlib.api.application.domain.postlike.PostLike;
+import com.eunbinlib.api.application.domain.repository.post.PostDetailRow;
 import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
 import com.eunbinlib.api.application.domain.repository.postimagefile.PostImageFileRepository;
 import com.eunbinlib.api.application.domain.repository.postlike.PostLikeRepository;
 import com.eunbinlib.api.application.domain.user.Member;
 import com.eunbinlib.api.application.dto.request.PostCreateRequest;
 import com.eunbinlib.api.application.dto.request.PostReadRequest;
+import com.eunbinlib.api.application.dto.request.PostSearchRequest;
 import com.eunbinlib.api.application.dto.request.PostUpdateRequest;
 import com.eunbinlib.api.application.dto.response.OnlyIdResponse;
-import com.eunbinlib.api.application.dto.response.PaginationMeta;
 import com.eunbinlib.api.application.dto.response.PaginationResponse;
 import com.eunbinlib.api.application.dto.response.PostResponse;
 import com.eunbinlib.api.application.dto.response.postdetailresponse.PostDetailResponse;
 import com.eunbinlib.api.application.exception.type.ForbiddenAccessException;
+import com.eunbinlib.api.application.event.PostChangedEvent;
 import com.eunbinlib.api.application.exception.type.notfound.PostNotFoundException;
+import com.eunbinlib.api.application.search.PostSearchIndex;
+import com.eunbinlib.api.application.timeline.PostTimeline;
+import com.eunbinlib.api.application.trending.TrendingPosts;
+import com.eunbinlib.api.cache.SortedLongSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,6 +50,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final long OVER_FETCH_FACTOR = 2L;
+
     private final PostRepository postRepository;
 
     private final PostImageFileRepository postImageFileRepository;
@@ -41,6 +60,29 @@ public class PostService {
 
     private final UserService userService;
 
+    private final BlockedMemberCache blockedMemberCache;
+
+    private final PostTimeline postTimeline;
+
+    private final PostSearchIndex postSearchIndex;
+
+    private final TrendingPosts trendingPosts;
+
+    private final PostDetailAssembler postDetailAssembler;
+
+    private final PostDetailCache postDetailCache;
+
+    private final PostCounterStore postCounterStore;
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    private final LikeCountBuffer likeCountBuffer;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${post.feed.max-bound-block-ids:100}")
+    private int maxBoundBlockIds;
+
     public Post findById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(PostNotFoundException::new);
@@ -58,37 +100,70 @@ public class PostService {
 
         Long postId = postRepository.save(post).getId();
 
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+
         return OnlyIdResponse.from(postId);
     }
 
-    @Transactional
+    /**
+     * 본문은 상세 캐시에서 읽고, 조회수와 좋아요 수는 카운터 저장소의 값으로 덮어쓴다.
+     * 조회수 증가분은 버퍼에 모았다가 주기적으로 DB 에 반영하므로 글 행을 수정하지 않는다.
+     * 카운터를 채울 때 이번 조회가 두 번 세어지지 않도록, 카운터를 올린 뒤에 버퍼에 기록한다.
+     */
     public PostDetailResponse readDetail(Long postId) {
-        Post post = postRepository.findByIdAndState(postId, PostState.NORMAL)
-                .orElseThrow(PostNotFoundException::new);
+        PostDetailResponse detail = postDetailCache.get(postId, () -> postDetailAssembler.assemble(postId));
 
-        postRepository.findWithImagesByIdAndState(postId, PostState.NORMAL);
+        PostCounters counters = postCounterStore.increaseView(postId, () -> loadCounters(postId));
 
-        post.increaseViewCount();
+        viewCountBuffer.record(postId);
+        trendingPosts.recordView(postId);
 
-        return PostDetailResponse.from(post);
+        return detail.withCounters(counters.getViewCount(), counters.getLikeCount());
     }
 
     public PaginationResponse<PostResponse> readMany(Long userId, PostReadRequest postReadRequest) {
-        List<Post> findPosts = findPost(userId, postReadRequest.getLimit(), postReadRequest.getAfter());
+        long limit = postReadRequest.getLimit();
 
-        List<PostResponse> data = findPosts.stream()
-                .map(PostResponse::new)
-                .collect(Collectors.toList());
+        List<PostSummary> findPosts = findPost(userId, limit + 1, postReadRequest.getAfterCondition());
+
+        Set<Long> likedPostIds = findLikedPostIds(userId, findPosts, limit);
+
+        return PaginationResponse.fromRows(findPosts, limit, PostSummary::getId,
+                post -> new PostResponse(post, likedPostIds.contains(post.getId())));
+    }
+
+    /**
+     * 검색 색인에서 차단한 회원의 글을 뺀 글 id 를 찾고, 목록과 같은 형태로 한 번에 읽는다.
+     * 색인에 아직 남은 삭제된 글은 DB 에서 빠지므로, 한 페이지가 찰 때까지 색인을 이어서 읽는다.
+     */
+    public PaginationResponse<PostResponse> search(Long userId, PostSearchRequest postSearchRequest) {
+        long limit = postSearchRequest.getLimit();
+        int batchSize = (int) (limit * OVER_FETCH_FACTOR);
+        SortedLongSet blockedIds = blockedMemberCache.get(userId);
+
+        List<PostSummary> findPosts = new ArrayList<>();
+        Long cursor = postSearchRequest.getAfterCondition();
+        while (findPosts.size() <= limit) {
+            List<Long> postIds = postSearchIndex.search(postSearchRequest.getQuery(), cursor, batchSize, blockedIds::contains);
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            findPosts.addAll(postRepository.findSummaries(postIds));
+
+            if (postIds.size() < batchSize) {
+                break;
+            }
+            cursor = postIds.get(postIds.size() - 1);
+        }
+        if (findPosts.size() > limit + 1) {
+            findPosts = findPosts.subList(0, (int) limit + 1);
+        }
 
-        PaginationMeta meta = PaginationMeta.builder()
-                .size(data.size())
-                .hasMore(isHasMore(userId, data))
-                .build();
+        Set<Long> likedPostIds = findLikedPostIds(userId, findPosts, limit);
 
-        return PaginationResponse.<PostResponse>builder()
-                .meta(meta)
-                .data(data)
-                .build();
+        return PaginationResponse.fromRows(findPosts, limit, PostSummary::getId,
+                post -> new PostResponse(post, likedPostIds.contains(post.getId())));
     }
 
     @Transactional
@@ -102,6 +177,8 @@ public class PostService {
 
         List<BaseImageFile> newImages = ImageUtils.storeImages(postUpdateRequest.getNewImages());
         post.updateImages(postUpdateRequest.getDeleteIdList(), newImages);
+
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     @Transactional
@@ -111,40 +188,109 @@ public class PostService {
         validateWriter(userId, post.getMember().getId());
 
         post.delete();
+
+        eventPublisher.publishEvent(new PostChangedEvent(postId, true));
     }
 
+    /**
+     * 좋아요 행을 한 문장으로 추가/삭제하고, 실제로 바뀐 경우에만 좋아요 수 증가분을 기록한다.
+     */
     public void likePost(Long userId, Long postId, Boolean isLike) {
-        Optional<PostLike> optionalPostLike = postLikeRepository.findByMemberIdAndPostId(userId, postId);
-
-        boolean alreadyLike = optionalPostLike.isPresent() && isLike;
-        boolean alreadyUnlike = optionalPostLike.isEmpty() && !isLike;
-        if (alreadyLike || alreadyUnlike) {
+        int changed = isLike
+                ? insertLike(userId, postId)
+                : postLikeRepository.deleteIfPresent(userId, postId);
+        if (changed == 0) {
             return;
         }
 
-        if (optionalPostLike.isPresent()) {
-            postLikeRepository.delete(optionalPostLike.get());
-        } else {
-            Member member = userService.findMemberById(userId);
-            Post post = findById(postId);
+        long delta = isLike ? 1L : -1L;
+        likeCountBuffer.record(postId, delta);
+        postCounterStore.addLike(postId, delta);
+        trendingPosts.recordLike(postId, delta);
+    }
+
+    /**
+     * 페이지에 담길 글 중에서 좋아요한 글을 페이지 크기와 상관없이 한 번의 in 조회로 찾는다.
+     */
+    private Set<Long> findLikedPostIds(Long userId, List<PostSummary> posts, long limit) {
+        List<Long> postIds = posts.stream()
+                .limit(limit)
+                .map(PostSummary::getId)
+                .collect(Collectors.toList());
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(postLikeRepository.findLikedPostIds(userId, postIds));
+    }
+
+    /**
+     * 최신 글 타임라인으로 페이지를 채울 수 있으면 타임라인에서 읽는다.
+     */
+    private List<PostSummary> findPost(Long userId, long limit, Long after) {
+        SortedLongSet blockedIds = blockedMemberCache.get(userId);
+
+        return postTimeline.read(after, limit, blockedIds)
+                .orElseGet(() -> findPostFromDatabase(blockedIds, limit, after));
+    }
+
+    /**
+     * 차단 목록이 작으면 not in 조건으로 한 번에 조회하고,
+     * 크면 차단 조건 없이 넉넉하게 조회한 뒤 메모리에서 걸러내며 페이지를 채운다.
+     */
+    private List<PostSummary> findPostFromDatabase(SortedLongSet blockedIds, long limit, Long after) {
+        if (blockedIds.size() <= maxBoundBlockIds) {
+            return postRepository.findFeed(after, blockedIds.toList(), limit);
+        }
 
-            postLikeRepository.save(PostLike.builder()
-                    .member(member)
-                    .post(post)
-                    .build());
+        long batchSize = limit * OVER_FETCH_FACTOR;
+        List<PostSummary> posts = new ArrayList<>();
+        Long cursor = after;
+        while (posts.size() < limit) {
+            List<PostSummary> batch = postRepository.findFeed(cursor, List.of(), batchSize);
+            batch.stream()
+                    .filter(post -> !blockedIds.contains(post.getMemberId()))
+                    .limit(limit - posts.size())
+                    .forEach(posts::add);
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+            cursor = batch.get(batch.size() - 1).getId();
         }
+
+        return posts;
     }
 
-    private List<Post> findPost(Long userId, long limit, Long after) {
-        if (after == null) {
-            return postRepository.findPosts(limit, userId);
-        } else {
-            return postRepository.findPostsWithAfterCondition(limit, after, userId);
+    /**
+     * 캐시된 상세 응답은 오래되었을 수 있으므로 DB 값을 읽고, 이 노드가 아직 반영하지 않은 증가분을 더한다.
+     */
+    private PostCounters loadCounters(Long postId) {
+        PostDetailRow row = postRepository.findDetailRow(postId)
+                .orElseThrow(PostNotFoundException::new);
+
+        return new PostCounters(orZero(row.getViewCount()) + viewCountBuffer.getPendingDelta(postId),
+                orZero(row.getLikeCount()) + likeCountBuffer.getPendingDelta(postId));
+    }
+
+    private int insertLike(Long userId, Long postId) {
+        int inserted;
+        try {
+            inserted = postLikeRepository.insertIfAbsent(userId, postId);
+        } catch (DataIntegrityViolationException e) {
+            // NOTE: 동시에 들어온 같은 좋아요 요청이 먼저 추가한 경우
+            return 0;
         }
+
+        if (inserted == 0 && !postRepository.existsById(postId)) {
+            throw new PostNotFoundException();
+        }
+
+        return inserted;
     }
 
-    private boolean isHasMore(Long userId, List<PostResponse> data) {
-        return !data.isEmpty() && postRepository.existsNext(userId, data.get(data.size() - 1).getId());
+    private static long orZero(Long count) {
+        return count == null ? 0L : count;
     }
 
     private void validateWriter(Long userId, Long postWriterId) {
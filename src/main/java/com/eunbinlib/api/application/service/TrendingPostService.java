@@ -0,0 +1,106 @@
+package com.eunbinlib.api.application.service;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+import com.eunbinlib.api.application.domain.repository.postlike.PostLikeRepository;
+import com.eunbinlib.api.application.dto.request.PostTrendingRequest;
+import com.eunbinlib.api.application.dto.response.PaginationMeta;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.trending.TrendingPosts;
+import com.eunbinlib.api.application.utils.BlockedMemberCache;
+import com.eunbinlib.api.application.utils.PageCursor;
+import com.eunbinlib.api.cache.SortedLongSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 순위에서 글 id 를 읽고, 목록과 같은 상태/차단 조건으로 걸러서 순위 순서대로 내려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendingPostService {
+
+    private static final int OVER_FETCH_FACTOR = 2;
+
+    private final TrendingPosts trendingPosts;
+
+    private final PostRepository postRepository;
+
+    private final PostLikeRepository postLikeRepository;
+
+    private final BlockedMemberCache blockedMemberCache;
+
+    /**
+     * 걸러진 글만큼 순위를 더 읽어서 페이지를 채운다. 다음 커서는 마지막으로 담은 글 다음 위치다.
+     */
+    public PaginationResponse<PostResponse> readTrending(Long userId, PostTrendingRequest postTrendingRequest) {
+        int limit = postTrendingRequest.getLimit();
+        int batchSize = limit * OVER_FETCH_FACTOR;
+        SortedLongSet blockedIds = blockedMemberCache.get(userId);
+
+        List<PostSummary> posts = new ArrayList<>(limit);
+        boolean hasMore = false;
+        int offset = postTrendingRequest.getOffset();
+        int nextOffset = offset;
+        while (!hasMore) {
+            List<Long> postIds = trendingPosts.read(offset, batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, PostSummary> summaries = postRepository.findSummaries(postIds).stream()
+                    .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+            for (Long postId : postIds) {
+                PostSummary summary = summaries.get(postId);
+                ++offset;
+                if (summary == null || blockedIds.contains(summary.getMemberId())) {
+                    continue;
+                }
+                if (posts.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                posts.add(summary);
+                nextOffset = offset;
+            }
+
+            if (postIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        Set<Long> likedPostIds = findLikedPostIds(userId, posts);
+        List<PostResponse> data = posts.stream()
+                .map(post -> new PostResponse(post, likedPostIds.contains(post.getId())))
+                .collect(Collectors.toList());
+
+        return PaginationResponse.<PostResponse>builder()
+                .meta(PaginationMeta.builder()
+                        .size(data.size())
+                        .hasMore(hasMore)
+                        .nextCursor(hasMore ? PageCursor.encode((long) nextOffset) : null)
+                        .build())
+                .data(data)
+                .build();
+    }
+
+    private Set<Long> findLikedPostIds(Long userId, List<PostSummary> posts) {
+        if (posts.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(postLikeRepository.findLikedPostIds(userId, posts.stream()
+                .map(PostSummary::getId)
+                .collect(Collectors.toList())));
+    }
+}
@@ -1,7 +1,7 @@
 package com.eunbinlib.api.application.service;
 
-import com.eunbinlib.api.application.utils.EncryptUtils;
 import com.eunbinlib.api.application.utils.ImageUtils;
+import com.eunbinlib.api.application.utils.PasswordHashPolicy;
 import com.eunbinlib.api.application.domain.imagefile.BaseImageFile;
 import com.eunbinlib.api.application.domain.repository.user.MemberRepository;
 import com.eunbinlib.api.application.domain.repository.user.UserRepository;
@@ -11,9 +11,11 @@ import com.eunbinlib.api.application.dto.request.GuestCreateRequest;
 import com.eunbinlib.api.application.dto.request.MeUpdateRequest;
 import com.eunbinlib.api.application.dto.request.MemberCreateRequest;
 import com.eunbinlib.api.application.dto.response.UserMeResponse;
+import com.eunbinlib.api.application.event.MemberUpdatedEvent;
 import com.eunbinlib.api.application.exception.type.notfound.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -27,6 +29,10 @@ public class UserService {
 
     private final MemberRepository memberRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PasswordHashPolicy passwordHashPolicy;
+
     public Member findMemberById(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(UserNotFoundException::new);
@@ -42,7 +48,7 @@ public class UserService {
     public void createMember(MemberCreateRequest memberCreateRequest) {
         Member member = Member.builder()
                 .username(memberCreateRequest.getUsername())
-                .password(EncryptUtils.encrypt(memberCreateRequest.getPassword()))
+                .password(passwordHashPolicy.encryptForMember(memberCreateRequest.getPassword()))
                 .nickname(memberCreateRequest.getNickname())
                 .build();
 
@@ -52,7 +58,7 @@ public class UserService {
     public void createGuest(GuestCreateRequest guestCreateRequest) {
         Guest guest = Guest.builder()
                 .username(guestCreateRequest.getUsername())
-                .password(EncryptUtils.encrypt(guestCreateRequest.getPassword()))
+                .password(passwordHashPolicy.encryptForGuest(guestCreateRequest.getPassword()))
                 .build();
 
         userRepository.save(guest);
@@ -68,5 +74,7 @@ public class UserService {
         }
 
         me.update(meUpdateRequest.getNickname(), baseImageFile);
+
+        eventPublisher.publishEvent(new MemberUpdatedEvent(me.getId(), me.getUsername(), me.getSessionVersion()));
     }
 }
@@ -0,0 +1,138 @@
+package com.eunbinlib.api.application.timeline;
+
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+
+/**
+ * 최신 글을 id 내림차순 배열 하나로 노드 메모리에 보관한다.
+ * 변경할 때마다 새 배열을 만들어 volatile 참조를 바꾸므로, 읽기는 락 없이 스냅샷을 본다.
+ */
+@Component
+@ConditionalOnProperty(name = "timeline.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryTimelineStore implements TimelineStore {
+
+    private static final PostSummary[] EMPTY = new PostSummary[0];
+
+    private final int capacity;
+
+    private volatile PostSummary[] entries = EMPTY;
+
+    /**
+     * 용량을 넘어 오래된 글을 버린 적이 있는지 여부. 버린 적이 없으면 타임라인이 전체 글을 담고 있다.
+     */
+    private boolean truncated;
+
+    public MemoryTimelineStore(@Value("${timeline.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void replaceAll(List<PostSummary> newest) {
+        entries = newest.stream()
+                .limit(capacity)
+                .toArray(PostSummary[]::new);
+        truncated = newest.size() >= capacity;
+    }
+
+    /**
+     * 타임라인은 가장 최신 글부터 가장 오래된 항목까지 빠짐없이 담는다.
+     * 용량 때문에 잘린 뒤에는 가장 오래된 항목보다 오래된 글을 넣으면 그 사이 글이 빠진 채로 읽히므로, 넣지 않는다.
+     */
+    @Override
+    public synchronized void upsert(PostSummary summary) {
+        PostSummary[] current = entries;
+        if (truncated && (current.length == 0 || summary.getId() < current[current.length - 1].getId())) {
+            return;
+        }
+
+        List<PostSummary> next = new ArrayList<>(current.length + 1);
+        boolean inserted = false;
+        for (PostSummary entry : current) {
+            if (!inserted && entry.getId() <= summary.getId()) {
+                next.add(summary);
+                inserted = true;
+            }
+            if (!entry.getId().equals(summary.getId())) {
+                next.add(entry);
+            }
+        }
+        if (!inserted) {
+            next.add(summary);
+        }
+
+        entries = next.stream()
+                .limit(capacity)
+                .toArray(PostSummary[]::new);
+        truncated = truncated || next.size() > capacity;
+    }
+
+    @Override
+    public synchronized void remove(Long postId) {
+        PostSummary[] current = entries;
+        int index = indexOlderThan(current, postId + 1);
+        if (index < current.length && current[index].getId().equals(postId)) {
+            PostSummary[] next = new PostSummary[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            entries = next;
+        }
+    }
+
+    @Override
+    public Optional<List<PostSummary>> read(Long after, int limit, LongPredicate excludedMember) {
+        PostSummary[] snapshot = entries;
+
+        List<PostSummary> result = new ArrayList<>(limit);
+        for (int i = after == null ? 0 : indexOlderThan(snapshot, after); i < snapshot.length; i++) {
+            if (excludedMember.test(snapshot[i].getMemberId())) {
+                continue;
+            }
+
+            result.add(snapshot[i]);
+            if (result.size() == limit) {
+                return Optional.of(result);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isPopulated() {
+        return entries.length > 0;
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * id 가 after 보다 작은 첫 항목의 위치. 배열은 id 내림차순이다.
+     */
+    private static int indexOlderThan(PostSummary[] snapshot, long after) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].getId() >= after) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,124 @@
+package com.eunbinlib.api.application.timeline;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+import com.eunbinlib.api.application.event.CommentChangedEvent;
+import com.eunbinlib.api.application.event.PostChangedEvent;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import com.eunbinlib.api.cache.SortedLongSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 홈 화면 첫 페이지들을 DB 대신 최신 글 타임라인에서 읽는다.
+ * 타임라인은 시작할 때 DB 에서 채우고, 글이 작성/수정/삭제되면 커밋 이후에 해당 글만 다시 읽어 반영한다.
+ * 공유 저장소가 아니면 다른 노드에도 pub/sub 으로 변경된 글 id 를 알린다.
+ */
+@Slf4j
+@Component
+public class PostTimeline {
+
+    public static final String CHANNEL = "timeline";
+
+    private final TimelineStore timelineStore;
+
+    private final PostRepository postRepository;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    private final int capacity;
+
+    public PostTimeline(TimelineStore timelineStore,
+                        PostRepository postRepository,
+                        CacheInvalidationBus invalidationBus,
+                        @Value("${timeline.capacity:1000}") int capacity
+    ) {
+        this.timelineStore = timelineStore;
+        this.postRepository = postRepository;
+        this.invalidationBus = invalidationBus;
+        this.capacity = capacity;
+
+        invalidationBus.subscribe(CHANNEL, this::onRemoteChange);
+    }
+
+    /**
+     * 공유 타임라인이 이미 채워져 있으면 다른 노드가 쓰고 있는 것이므로 다시 만들지 않는다.
+     * 순차 재시작 중에 노드마다 타임라인을 새로 만들면, 그동안 반영된 변경을 오래된 DB 조회 결과로 덮어쓴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (timelineStore.isShared() && timelineStore.isPopulated()) {
+            log.info("timeline warm-up skipped: shared timeline is already populated");
+            return;
+        }
+
+        rebuild();
+    }
+
+    /**
+     * DB 의 최신 글로 타임라인 전체를 다시 만든다.
+     */
+    public void rebuild() {
+        timelineStore.replaceAll(postRepository.findFeed(null, List.of(), capacity));
+    }
+
+    /**
+     * @return 타임라인 안에서 페이지를 채우지 못하면 empty
+     */
+    public Optional<List<PostSummary>> read(Long after, long limit, SortedLongSet blockedIds) {
+        return timelineStore.read(after, (int) limit, blockedIds::contains);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        onChanged(event.getPostId());
+    }
+
+    /**
+     * 목록에 댓글 수가 보이므로 댓글이 바뀐 글도 다시 읽는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        onChanged(event.getPostId());
+    }
+
+    public void clear() {
+        timelineStore.replaceAll(List.of());
+    }
+
+    private void onChanged(Long postId) {
+        refresh(postId);
+        if (!timelineStore.isShared()) {
+            invalidationBus.publishEvict(CHANNEL, String.valueOf(postId));
+        }
+    }
+
+    private void refresh(Long postId) {
+        Optional<PostSummary> summary = postRepository.findSummary(postId);
+        if (summary.isPresent()) {
+            timelineStore.upsert(summary.get());
+        } else {
+            timelineStore.remove(postId);
+        }
+    }
+
+    private void onRemoteChange(String key) {
+        if (key == null) {
+            rebuild();
+            return;
+        }
+
+        try {
+            refresh(Long.parseLong(key));
+        } catch (NumberFormatException e) {
+            log.warn("invalid timeline message: {}", key, e);
+        }
+    }
+}
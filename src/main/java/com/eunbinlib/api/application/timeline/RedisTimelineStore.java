@@ -0,0 +1,194 @@
+package com.eunbinlib.api.application.timeline;
+
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * 최신 글을 Redis sorted set 하나에 보관해서 모든 노드가 같은 타임라인을 공유한다.
+ * score 는 글 id, 값은 목록에 필요한 필드를 담은 JSON 배열이다.
+ * Redis 에 접근할 수 없으면 읽기는 DB 조회로 넘기고, 쓰기는 로그만 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "timeline.store", havingValue = "redis")
+public class RedisTimelineStore implements TimelineStore {
+
+    public static final String KEY = "timeline:posts";
+
+    /**
+     * 용량을 넘어 오래된 글을 버린 적이 있으면 생기는 키. 없으면 타임라인이 전체 글을 담고 있다.
+     */
+    public static final String TRUNCATED_KEY = "timeline:posts:truncated";
+
+    public static final String REBUILDING_KEY = "timeline:posts:rebuilding";
+
+    /**
+     * 잘린 타임라인에는 가장 오래된 항목보다 오래된 글을 넣지 않는다. 넣으면 그 사이 글이 빠진 채로 읽힌다.
+     */
+    private static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>(
+            "local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')\n" +
+            "if redis.call('EXISTS', KEYS[2]) == 1 and (oldest[2] == nil or tonumber(ARGV[1]) < tonumber(oldest[2])) then\n" +
+            "  return 0\n" +
+            "end\n" +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])\n" +
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])\n" +
+            "local removed = redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1)\n" +
+            "if removed > 0 then\n" +
+            "  redis.call('SET', KEYS[2], '1')\n" +
+            "end\n" +
+            "return removed",
+            Long.class
+    );
+
+    /**
+     * 새 타임라인을 임시 키에 만든 뒤 한 번에 바꿔 끼운다. 다른 노드가 반쯤 채워진 타임라인이나 잘림 표시가 없는 타임라인을 보지 않는다.
+     * ARGV[1] 은 잘림 여부, 그 뒤로 (글 id, 값) 쌍이 이어진다.
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[3])\n" +
+            "for i = 2, #ARGV, 2 do\n" +
+            "  redis.call('ZADD', KEYS[3], ARGV[i], ARGV[i + 1])\n" +
+            "end\n" +
+            "if redis.call('EXISTS', KEYS[3]) == 1 then\n" +
+            "  redis.call('RENAME', KEYS[3], KEYS[1])\n" +
+            "else\n" +
+            "  redis.call('DEL', KEYS[1])\n" +
+            "end\n" +
+            "if ARGV[1] == '1' then\n" +
+            "  redis.call('SET', KEYS[2], '1')\n" +
+            "else\n" +
+            "  redis.call('DEL', KEYS[2])\n" +
+            "end\n" +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final int capacity;
+
+    public RedisTimelineStore(StringRedisTemplate stringRedisTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${timeline.capacity:1000}") int capacity
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void replaceAll(List<PostSummary> newest) {
+        try {
+            List<Object> args = new ArrayList<>();
+            args.add(newest.size() >= capacity ? "1" : "0");
+            for (PostSummary summary : newest.subList(0, Math.min(newest.size(), capacity))) {
+                args.add(String.valueOf(summary.getId()));
+                args.add(serialize(summary));
+            }
+
+            stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(KEY, TRUNCATED_KEY, REBUILDING_KEY), args.toArray());
+        } catch (Exception e) {
+            log.warn("timeline replace failed", e);
+        }
+    }
+
+    @Override
+    public void upsert(PostSummary summary) {
+        try {
+            stringRedisTemplate.execute(UPSERT_SCRIPT, List.of(KEY, TRUNCATED_KEY),
+                    String.valueOf(summary.getId()),
+                    serialize(summary),
+                    String.valueOf(capacity));
+        } catch (Exception e) {
+            log.warn("timeline upsert failed: postId={}", summary.getId(), e);
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(KEY, postId, postId);
+        } catch (Exception e) {
+            log.warn("timeline remove failed: postId={}", postId, e);
+        }
+    }
+
+    @Override
+    public Optional<List<PostSummary>> read(Long after, int limit, LongPredicate excludedMember) {
+        try {
+            double max = after == null ? Double.POSITIVE_INFINITY : after - 1;
+            int batchSize = limit * 2;
+
+            List<PostSummary> result = new ArrayList<>(limit);
+            for (long offset = 0; ; offset += batchSize) {
+                Set<String> batch = stringRedisTemplate.opsForZSet()
+                        .reverseRangeByScore(KEY, Double.NEGATIVE_INFINITY, max, offset, batchSize);
+                if (batch == null || batch.isEmpty()) {
+                    return Optional.empty();
+                }
+
+                for (String value : batch) {
+                    PostSummary summary = deserialize(value);
+                    if (!excludedMember.test(summary.getMemberId())) {
+                        result.add(summary);
+                        if (result.size() == limit) {
+                            return Optional.of(result);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("timeline read failed", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Redis 에 접근할 수 없으면 채워지지 않은 것으로 본다.
+     */
+    @Override
+    public boolean isPopulated() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY));
+        } catch (Exception e) {
+            log.warn("timeline lookup failed", e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    private String serialize(PostSummary summary) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(Arrays.asList(
+                summary.getId(), summary.getMemberId(), summary.getTitle(), summary.getExcerpt(), summary.getCommentCount()));
+    }
+
+    private PostSummary deserialize(String value) throws JsonProcessingException {
+        JsonNode fields = objectMapper.readTree(value);
+
+        // NOTE: 댓글 수가 추가되기 전에 저장된 값은 네 번째 필드까지만 있으므로 0 으로 읽는다.
+        return new PostSummary(fields.get(0).asLong(), fields.get(1).asLong(), fields.get(2).asText(),
+                fields.get(3).isNull() ? null : fields.get(3).asText(), fields.path(4).asLong());
+    }
+}
@@ -0,0 +1,39 @@
+package com.eunbinlib.api.application.timeline;
+
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+
+public interface TimelineStore {
+
+    /**
+     * 최신 글 목록으로 타임라인 전체를 바꾼다.
+     *
+     * @param newest id 내림차순으로 정렬된 최신 글
+     */
+    void replaceAll(List<PostSummary> newest);
+
+    void upsert(PostSummary summary);
+
+    void remove(Long postId);
+
+    /**
+     * after 보다 오래된 글을 최신순으로 limit 개 읽는다.
+     *
+     * @return 타임라인 안에서 limit 개를 채우지 못하면 empty. 이 경우 DB 에서 조회해야 한다.
+     */
+    Optional<List<PostSummary>> read(Long after, int limit, LongPredicate excludedMember);
+
+    /**
+     * 타임라인에 글이 하나라도 있는지 여부
+     */
+    boolean isPopulated();
+
+    /**
+     * 모든 노드가 같은 타임라인을 공유하는지 여부. 공유하지 않으면 변경을 다른 노드에 알려야 한다.
+     */
+    boolean isShared();
+
+}
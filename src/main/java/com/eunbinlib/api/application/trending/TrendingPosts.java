@@ -0,0 +1,196 @@
+package com.eunbinlib.api.application.trending;
+
+import com.eunbinlib.api.application.event.PostChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 조회, 좋아요, 댓글에 가중치를 두어 최근에 반응이 많은 글의 순위를 메모리에서 유지한다.
+ * 순위는 노드마다 자기가 받은 반응만으로 만들어지므로 노드마다 다를 수 있다.
+ * 노드마다 자기 키에 순위를 주기적으로 저장해 두고, 다시 시작할 때는 모든 노드의 저장본을 평균 내어 저장 이후 지난 시간만큼 줄여서 되살린다.
+ * 합치지 않고 평균을 내므로, 되살린 순위를 다시 저장해도 다른 노드의 반응이 거듭 더해지지 않는다.
+ * Redis 에 접근할 수 없으면 저장/복원을 건너뛴다.
+ */
+@Slf4j
+@Component
+public class TrendingPosts {
+
+    public static final String SNAPSHOT_KEY_PREFIX = "trending:snapshot:";
+
+    private final TrendingScoreBoard scoreBoard;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final double viewWeight;
+
+    private final double likeWeight;
+
+    private final double commentWeight;
+
+    private final double minScore;
+
+    private final Duration snapshotTtl;
+
+    private final String snapshotKey = SNAPSHOT_KEY_PREFIX + UUID.randomUUID();
+
+    public TrendingPosts(StringRedisTemplate stringRedisTemplate,
+                         ObjectMapper objectMapper,
+                         @Value("${trending.half-life-millis:21600000}") long halfLifeMillis,
+                         @Value("${trending.top-k:1000}") int topK,
+                         @Value("${trending.weight.view:1}") double viewWeight,
+                         @Value("${trending.weight.like:5}") double likeWeight,
+                         @Value("${trending.weight.comment:3}") double commentWeight,
+                         @Value("${trending.min-score:0.1}") double minScore,
+                         @Value("${trending.snapshot-ttl-millis:86400000}") long snapshotTtlMillis
+    ) {
+        this.scoreBoard = new TrendingScoreBoard(halfLifeMillis, topK, System::currentTimeMillis);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.minScore = minScore;
+        this.snapshotTtl = Duration.ofMillis(snapshotTtlMillis);
+    }
+
+    public void recordView(Long postId) {
+        scoreBoard.add(postId, viewWeight);
+    }
+
+    /**
+     * 좋아요를 취소하면 좋아요 가중치만큼 뺀다.
+     */
+    public void recordLike(Long postId, long delta) {
+        scoreBoard.add(postId, likeWeight * delta);
+    }
+
+    public void recordComment(Long postId) {
+        scoreBoard.add(postId, commentWeight);
+    }
+
+    /**
+     * 순위에서 offset 번째부터 limit 개의 글 id
+     */
+    public List<Long> read(int offset, int limit) {
+        return scoreBoard.read(offset, limit);
+    }
+
+    /**
+     * 삭제된 글을 순위에서 뺀다.
+     */
+    public void remove(Long postId) {
+        scoreBoard.remove(postId);
+    }
+
+    /**
+     * 삭제가 커밋된 뒤에만 순위에서 빼서, 롤백된 삭제로 순위를 잃지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getPostId());
+        }
+    }
+
+    public void clear() {
+        scoreBoard.clear();
+    }
+
+    public int size() {
+        return scoreBoard.size();
+    }
+
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval-millis:60000}")
+    public void saveSnapshot() {
+        scoreBoard.prune(minScore);
+
+        Map<Long, Double> scores = scoreBoard.snapshot();
+        try {
+            stringRedisTemplate.opsForValue().set(snapshotKey, objectMapper.writeValueAsString(Map.of(
+                    "savedAt", System.currentTimeMillis(),
+                    "scores", scores
+            )), snapshotTtl);
+        } catch (Exception e) {
+            log.warn("trending snapshot save failed: posts={}", scores.size(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        try {
+            List<String> keys = findSnapshotKeys();
+            if (keys == null || keys.isEmpty()) {
+                return;
+            }
+
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(keys).stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            int restored = 0;
+            for (String value : values) {
+                JsonNode snapshot = objectMapper.readTree(value);
+                Map<Long, Double> scores = new HashMap<>();
+                snapshot.get("scores").fields()
+                        .forEachRemaining(field -> scores.put(Long.parseLong(field.getKey()), field.getValue().asDouble() / values.size()));
+
+                scoreBoard.restore(scores, snapshot.get("savedAt").asLong());
+                restored += scores.size();
+            }
+
+            if (restored > 0) {
+                log.info("trending snapshot restored: nodes={}, posts={}", values.size(), restored);
+            }
+        } catch (Exception e) {
+            log.warn("trending snapshot restore failed", e);
+        }
+    }
+
+    private List<String> findSnapshotKeys() {
+        return stringRedisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(SNAPSHOT_KEY_PREFIX + "*")
+                    .count(100L)
+                    .build();
+
+            List<String> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(new String(cursor.next(), UTF_8));
+                }
+            }
+
+            return keys;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshot();
+    }
+}
@@ -0,0 +1,181 @@
+package com.eunbinlib.api.application.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간이 지날수록 반감기마다 절반으로 줄어드는 글 점수와, 점수가 가장 높은 topK 개의 글 순위.
+ * <p>
+ * 모든 점수를 주기적으로 줄이는 대신, 기준 시각(landmark) 이후 지난 시간만큼 커지는 가중치를 이벤트에 곱해서 더한다(forward decay).
+ * 같은 시각에 모든 점수를 같은 값으로 나눈 것과 같으므로, 이벤트가 없는 동안에는 글 사이의 순위가 바뀌지 않는다.
+ * 그래서 이벤트가 들어온 글만 순위에서 빼고 다시 넣으면 topK 를 유지할 수 있다.
+ * 가중치가 너무 커지기 전에 기준 시각을 옮기고 모든 점수를 한 번에 줄인다.
+ * <p>
+ * 동기화는 이 클래스가 직접 한다.
+ */
+public class TrendingScoreBoard {
+
+    /**
+     * e^30 은 double 로 충분히 정확하게 더할 수 있는 범위 안에 있다.
+     */
+    private static final double MAX_EXPONENT = 30.0;
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble((Entry entry) -> entry.score)
+            .thenComparingLong(entry -> entry.postId)
+            .reversed();
+
+    private final double decayPerMillis;
+
+    private final int topK;
+
+    private final LongSupplier clock;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private final TreeSet<Entry> top = new TreeSet<>(RANKING);
+
+    private long landmark;
+
+    /**
+     * 점수가 줄어든 글이 순위에 있으면, 순위 밖의 글이 더 높아졌을 수 있으므로 다음 조회 때 순위를 다시 만든다.
+     */
+    private boolean stale;
+
+    public TrendingScoreBoard(long halfLifeMillis, int topK, LongSupplier clock) {
+        this.decayPerMillis = Math.log(2) / halfLifeMillis;
+        this.topK = topK;
+        this.clock = clock;
+        this.landmark = clock.getAsLong();
+    }
+
+    public synchronized void add(long postId, double weight) {
+        long now = clock.getAsLong();
+        if ((now - landmark) * decayPerMillis > MAX_EXPONENT) {
+            rescale(now);
+        }
+
+        Entry entry = entries.computeIfAbsent(postId, Entry::new);
+        boolean ranked = top.remove(entry);
+
+        entry.score = Math.max(0.0, entry.score + weight * Math.exp((now - landmark) * decayPerMillis));
+
+        if (ranked && weight < 0) {
+            stale = true;
+        }
+        offer(entry);
+    }
+
+    public synchronized void remove(long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry != null && top.remove(entry)) {
+            stale = true;
+        }
+    }
+
+    /**
+     * 순위에서 offset 번째부터 limit 개의 글 id
+     */
+    public synchronized List<Long> read(int offset, int limit) {
+        if (stale) {
+            rebuildTop();
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        Iterator<Entry> iterator = top.iterator();
+        for (int i = 0; iterator.hasNext() && result.size() < limit; i++) {
+            Entry entry = iterator.next();
+            if (i >= offset) {
+                result.add(entry.postId);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 지금 시각 기준으로 minScore 보다 작아진 글을 잊는다. 순위에 있는 글은 남긴다.
+     */
+    public synchronized void prune(double minScore) {
+        double threshold = minScore * Math.exp((clock.getAsLong() - landmark) * decayPerMillis);
+        entries.values().removeIf(entry -> entry.score < threshold && !top.contains(entry));
+    }
+
+    /**
+     * 순위에 있는 글의 지금 시각 기준 점수. 높은 점수부터 담는다.
+     */
+    public synchronized Map<Long, Double> snapshot() {
+        if (stale) {
+            rebuildTop();
+        }
+
+        double factor = Math.exp(-(clock.getAsLong() - landmark) * decayPerMillis);
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (Entry entry : top) {
+            scores.put(entry.postId, entry.score * factor);
+        }
+
+        return scores;
+    }
+
+    /**
+     * snapshot 으로 저장한 점수를 savedAt 부터 지금까지 줄어든 만큼 줄여서 더한다.
+     */
+    public void restore(Map<Long, Double> scores, long savedAt) {
+        double elapsedDecay = Math.exp(-(clock.getAsLong() - savedAt) * decayPerMillis);
+        scores.forEach((postId, score) -> add(postId, score * elapsedDecay));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        top.clear();
+        stale = false;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void offer(Entry entry) {
+        if (top.size() < topK) {
+            top.add(entry);
+            return;
+        }
+
+        if (RANKING.compare(entry, top.last()) < 0) {
+            top.pollLast();
+            top.add(entry);
+        }
+    }
+
+    private void rebuildTop() {
+        top.clear();
+        entries.values().forEach(this::offer);
+        stale = false;
+    }
+
+    private void rescale(long now) {
+        double factor = Math.exp(-(now - landmark) * decayPerMillis);
+        top.clear();
+        entries.values().forEach(entry -> entry.score *= factor);
+        landmark = now;
+        rebuildTop();
+    }
+
+    private static class Entry {
+
+        private final long postId;
+
+        private double score;
+
+        private Entry(long postId) {
+            this.postId = postId;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.eunbinlib.api.application.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 한 번 끝까지 돌면 다시 돌 필요가 없는 backfill 작업을 시작 스레드가 아닌 별도 스레드에서 차례로 실행한다.
+ * 실패한 범위 없이 끝난 작업은 Redis 에 완료 표시를 남겨서, 다음에 시작할 때는 id 범위를 다시 훑지 않는다.
+ */
+@Slf4j
+@Component
+public class BackfillRunner {
+
+    private static final String KEY_PREFIX = "backfill:done:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("backfill-"));
+
+    public BackfillRunner(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public CompletableFuture<Void> runOnce(String job, Supplier<IdRangeWalker.Result> backfill) {
+        return CompletableFuture.runAsync(() -> {
+            if (isDone(job)) {
+                return;
+            }
+
+            if (backfill.get().isComplete()) {
+                markDone(job);
+            }
+        }, executor).exceptionally(e -> {
+            log.warn("backfill failed: job={}", job, e);
+            return null;
+        });
+    }
+
+    public boolean isDone(String job) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + job));
+        } catch (Exception e) {
+            log.warn("backfill marker lookup failed: job={}", job, e);
+            return false;
+        }
+    }
+
+    private void markDone(String job) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + job, "1");
+        } catch (Exception e) {
+            log.warn("backfill marker update failed: job={}", job, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
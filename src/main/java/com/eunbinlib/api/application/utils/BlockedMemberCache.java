@@ -0,0 +1,122 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.domain.repository.block.BlockRepository;
+import com.eunbinlib.api.application.event.BlockChangedEvent;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import com.eunbinlib.api.cache.ExpiringCache;
+import com.eunbinlib.api.cache.SortedLongSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원별로 차단한 회원 id 목록을 노드 메모리에 보관한다.
+ * 차단/해제가 커밋되면 항목을 지우고 다른 노드에도 pub/sub 으로 알린다.
+ * 무효화마다 버전을 올려서, 무효화와 겹친 조회가 예전 목록을 다시 저장하지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class BlockedMemberCache {
+
+    public static final String CHANNEL = "blockedMembers";
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ExpiringCache<Long, SortedLongSet> cache;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final long ttlMillis;
+
+    private final BlockRepository blockRepository;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public BlockedMemberCache(@Value("${block-cache.max-entries:100000}") long maxEntries,
+                              @Value("${block-cache.max-bytes:16777216}") long maxBytes,
+                              @Value("${block-cache.ttl-millis:600000}") long ttlMillis,
+                              BlockRepository blockRepository,
+                              CacheInvalidationBus invalidationBus
+    ) {
+        this.cache = new ExpiringCache<>(maxEntries, maxBytes, (blockerId, blockedIds) -> blockedIds.estimateBytes());
+        this.ttlMillis = ttlMillis;
+        this.blockRepository = blockRepository;
+        this.invalidationBus = invalidationBus;
+
+        invalidationBus.subscribe(CHANNEL, this::onRemoteInvalidate);
+    }
+
+    public SortedLongSet get(Long blockerId) {
+        SortedLongSet cached = cache.get(blockerId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(blockerId);
+        long version = versions.get(stripe);
+
+        SortedLongSet loaded = SortedLongSet.of(blockRepository.findBlockedIdsByBlockerId(blockerId));
+        cache.put(blockerId, loaded, System.currentTimeMillis() + ttlMillis);
+
+        // NOTE: 조회하는 사이에 무효화되었다면 방금 저장한 목록은 이미 예전 값이다.
+        if (versions.get(stripe) != version) {
+            cache.remove(blockerId);
+        }
+
+        return loaded;
+    }
+
+    public void invalidate(Long blockerId) {
+        versions.incrementAndGet(stripe(blockerId));
+        cache.remove(blockerId);
+    }
+
+    public void clear() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        cache.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlockChanged(BlockChangedEvent event) {
+        invalidate(event.getBlockerId());
+        invalidationBus.publishEvict(CHANNEL, String.valueOf(event.getBlockerId()));
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public long getEstimatedBytes() {
+        return cache.weight();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    private void onRemoteInvalidate(String key) {
+        if (key == null) {
+            clear();
+            return;
+        }
+
+        try {
+            invalidate(Long.parseLong(key));
+        } catch (NumberFormatException e) {
+            log.warn("invalid blocked member message: {}", key, e);
+        }
+    }
+
+    private static int stripe(Long blockerId) {
+        return (int) (Long.hashCode(blockerId) & (VERSION_STRIPES - 1));
+    }
+}
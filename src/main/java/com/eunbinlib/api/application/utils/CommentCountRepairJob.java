@@ -0,0 +1,48 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 글의 댓글 수를 실제 댓글 수와 비교해서 어긋난 글만 고친다.
+ * 글 id 범위를 {@link IdRangeWalker} 로 chunkSize 씩 나누어 범위마다 따로 커밋하므로, 한 번에 많은 행을 잠그지 않는다.
+ */
+@Component
+public class CommentCountRepairJob {
+
+    private static final String NAME = "comment-count-repair";
+
+    private final PostRepository postRepository;
+
+    private final int chunkSize;
+
+    private final LongAdder repairedPostCount = new LongAdder();
+
+    public CommentCountRepairJob(PostRepository postRepository,
+                                 @Value("${post.comment-count.repair-chunk-size:1000}") int chunkSize
+    ) {
+        this.postRepository = postRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return 이번 실행에서 고친 글 수
+     */
+    @Scheduled(fixedDelayString = "${post.comment-count.repair-interval-millis:3600000}",
+            initialDelayString = "${post.comment-count.repair-interval-millis:3600000}")
+    public synchronized long repair() {
+        long repaired = IdRangeWalker.walk(NAME, postRepository.findMaxId().orElse(0L), chunkSize,
+                postRepository::repairCommentCount).getProcessed();
+        repairedPostCount.add(repaired);
+
+        return repaired;
+    }
+
+    public long getRepairedPostCount() {
+        return repairedPostCount.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.domain.comment.CommentPath;
+import com.eunbinlib.api.application.domain.repository.comment.CommentBackfillRow;
+import com.eunbinlib.api.application.domain.repository.comment.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경로(path)와 스레드(threadId)가 추가되기 전에 작성된 댓글의 경로와 스레드를 채운다.
+ * 시작할 때 {@link BackfillRunner} 로 한 번만 댓글 id 범위를 chunkSize 씩 나누어 훑는다.
+ * 부모 댓글은 항상 답글보다 id 가 작으므로, 이전 범위의 부모는 이미 채워져 있고 같은 범위의 부모는 앞에서 채운 값을 쓴다.
+ */
+@Slf4j
+@Component
+public class CommentPathBackfillJob {
+
+    public static final String NAME = "comment-path-backfill";
+
+    private final CommentRepository commentRepository;
+
+    private final BackfillRunner backfillRunner;
+
+    private final int chunkSize;
+
+    public CommentPathBackfillJob(CommentRepository commentRepository,
+                                  BackfillRunner backfillRunner,
+                                  @Value("${comment.path.backfill-chunk-size:1000}") int chunkSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.backfillRunner = backfillRunner;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        backfillRunner.runOnce(NAME, this::backfill);
+    }
+
+    public synchronized IdRangeWalker.Result backfill() {
+        return IdRangeWalker.walk(NAME, commentRepository.findMaxId().orElse(0L), chunkSize, this::fill);
+    }
+
+    private long fill(long from, long to) {
+        Map<Long, String> filledPaths = new HashMap<>();
+        Map<Long, Long> filledThreadIds = new HashMap<>();
+        for (CommentBackfillRow row : commentRepository.findRowsWithoutPath(from, to)) {
+            Long parentId = row.getParentId();
+            String parentPath = filledPaths.getOrDefault(parentId, row.getParentPath());
+            // NOTE: 부모의 경로를 채우지 못했거나, 깊이 제한이 생기기 전에 너무 깊게 달린 답글인 경우
+            if (parentId != null && (parentPath == null || !CommentPath.canAppendTo(parentPath))) {
+                log.warn("comment path backfill skipped: commentId={}, parentId={}", row.getId(), parentId);
+                continue;
+            }
+
+            String path = CommentPath.of(parentPath, row.getId());
+            Long threadId = parentId == null ? row.getId() : filledThreadIds.getOrDefault(parentId, row.getParentThreadId());
+            if (commentRepository.fillPath(row.getId(), path, threadId) > 0) {
+                filledPaths.put(row.getId(), path);
+                filledThreadIds.put(row.getId(), threadId);
+            }
+        }
+
+        return filledPaths.size();
+    }
+}
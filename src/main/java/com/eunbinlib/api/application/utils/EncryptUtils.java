@@ -8,7 +8,18 @@ public class EncryptUtils {
         return BCrypt.hashpw(password, BCrypt.gensalt());
     }
 
+    public static String encrypt(String password, int logRounds) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(logRounds));
+    }
+
     public static boolean isNotMatch(String plainPassword, String hashedPassword) {
         return !BCrypt.checkpw(plainPassword, hashedPassword);
     }
+
+    /**
+     * BCrypt 해시("$2a$10$...")에 기록된 cost(log rounds)를 읽는다.
+     */
+    public static int getLogRounds(String hashedPassword) {
+        return Integer.parseInt(hashedPassword.substring(4, 6));
+    }
 }
@@ -0,0 +1,64 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.timeline.PostTimeline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 본문 앞부분(excerpt)이 추가되기 전에 작성된 글의 본문 앞부분을 채운다.
+ * 시작할 때 {@link BackfillRunner} 로 한 번만 글 id 범위를 chunkSize 씩 나누어 훑는다.
+ */
+@Component
+public class ExcerptBackfillJob {
+
+    public static final String NAME = "excerpt-backfill";
+
+    private final PostRepository postRepository;
+
+    private final PostTimeline postTimeline;
+
+    private final BackfillRunner backfillRunner;
+
+    private final int chunkSize;
+
+    public ExcerptBackfillJob(PostRepository postRepository,
+                              PostTimeline postTimeline,
+                              BackfillRunner backfillRunner,
+                              @Value("${post.excerpt.backfill-chunk-size:1000}") int chunkSize
+    ) {
+        this.postRepository = postRepository;
+        this.postTimeline = postTimeline;
+        this.backfillRunner = backfillRunner;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        backfillRunner.runOnce(NAME, this::backfill);
+    }
+
+    /**
+     * 채운 글이 있으면, 비어 있는 앞부분을 담고 있을 수 있는 타임라인을 다시 만든다.
+     */
+    public synchronized IdRangeWalker.Result backfill() {
+        IdRangeWalker.Result result = IdRangeWalker.walk(NAME, postRepository.findMaxId().orElse(0L), chunkSize, (from, to) -> {
+            long filled = 0;
+            for (Map.Entry<Long, String> content : postRepository.findContentsWithoutExcerpt(from, to).entrySet()) {
+                filled += postRepository.fillExcerpt(content.getKey(), Post.toExcerpt(content.getValue()));
+            }
+            return filled;
+        });
+
+        if (result.getProcessed() > 0) {
+            postTimeline.rebuild();
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.eunbinlib.api.application.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * id 범위 (0, maxId] 를 chunkSize 씩 나누어 범위마다 작업을 실행한다.
+ * 범위마다 따로 커밋하므로 한 번에 많은 행을 잠그지 않고, 한 범위가 실패해도 다음 범위를 이어서 처리한다.
+ */
+@Slf4j
+public class IdRangeWalker {
+
+    private IdRangeWalker() {
+    }
+
+    public static Result walk(String name, long maxId, int chunkSize, RangeTask task) {
+        long processed = 0;
+        int failedRanges = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            long to = Math.min(from + chunkSize, maxId);
+            try {
+                processed += task.run(from, to);
+            } catch (Exception e) {
+                failedRanges++;
+                log.warn("{} failed: ids=({}, {}]", name, from, to, e);
+            }
+        }
+
+        if (processed > 0) {
+            log.info("{} done: rows={}", name, processed);
+        }
+
+        return new Result(processed, failedRanges);
+    }
+
+    @FunctionalInterface
+    public interface RangeTask {
+
+        /**
+         * @return id 가 (from, to] 인 행 중 처리한 행 수
+         */
+        long run(long from, long to);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+
+        private final long processed;
+
+        private final int failedRanges;
+
+        public boolean isComplete() {
+            return failedRanges == 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+/**
+ * 좋아요/좋아요 해제로 바뀐 글의 좋아요 수를 메모리에 모았다가 주기적으로 DB 에 반영한다.
+ * 좋아요 행이 실제로 추가/삭제된 경우에만 기록되므로, 같은 요청이 반복되어도 좋아요 수는 한 번만 바뀐다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer extends PostCountBuffer {
+
+    private final PostRepository postRepository;
+
+    public void record(Long postId, long delta) {
+        add(postId, delta);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${post.like-count.flush-interval-millis:1000}")
+    public void flush() {
+        super.flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    protected void update(long delta, List<Long> postIds) {
+        postRepository.addLikeCount(delta, postIds);
+    }
+}
@@ -0,0 +1,39 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.exception.type.InvalidRequestException;
+
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 페이지네이션 응답의 다음 페이지 커서.
+ * 클라이언트는 값을 해석하지 않고 그대로 돌려주기만 하면 된다.
+ */
+public class PageCursor {
+
+    private static final String FIELD_NAME = "cursor";
+
+    private static final String INVALID_MESSAGE = "잘못된 커서입니다.";
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(FIELD_NAME, INVALID_MESSAGE);
+        }
+    }
+
+    /**
+     * 커서가 있으면 커서를, 없으면 id 로 전달된 after 값을 기준으로 삼는다.
+     */
+    public static Long resolveAfter(String cursor, Long after) {
+        return cursor != null ? decode(cursor) : after;
+    }
+}
@@ -0,0 +1,125 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.exception.type.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt) 작업만 실행하는 크기가 고정된 스레드 풀.
+ * 요청 스레드는 작업을 넘기고 바로 반환되며, 대기열이 가득 차면 기다리지 않고 {@link ServiceUnavailableException} 을 던진다.
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder completedCount = new LongAdder();
+
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+
+    private final LongAdder totalRunNanos = new LongAdder();
+
+    private final LongAccumulator maxRunNanos = new LongAccumulator(Long::max, 0L);
+
+    public PasswordHashExecutor(@Value("${password-hash.pool-size:0}") int poolSize,
+                                @Value("${password-hash.queue-capacity:64}") int queueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+
+        try {
+            executor.execute(() -> run(task, future, submittedAt));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("password hash queue is full: queueDepth={}", getQueueDepth());
+            throw new ServiceUnavailableException();
+        }
+
+        return future;
+    }
+
+    public CompletableFuture<Void> submit(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private <T> void run(Supplier<T> task, CompletableFuture<T> future, long submittedAt) {
+        long startedAt = System.nanoTime();
+        totalQueueWaitNanos.add(startedAt - submittedAt);
+
+        try {
+            future.complete(task.get());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            long runNanos = System.nanoTime() - startedAt;
+            totalRunNanos.add(runNanos);
+            maxRunNanos.accumulate(runNanos);
+            completedCount.increment();
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getTotalQueueWaitNanos() {
+        return totalQueueWaitNanos.sum();
+    }
+
+    public long getTotalRunNanos() {
+        return totalRunNanos.sum();
+    }
+
+    public long getMaxRunNanos() {
+        return maxRunNanos.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,57 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.domain.user.Guest;
+import com.eunbinlib.api.application.domain.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 타입별 BCrypt cost(log rounds) 설정.
+ * 노드 사양이 바뀌면 설정만 바꾸고, 기존 해시는 로그인에 성공할 때 새 cost 로 다시 해시한다.
+ */
+@Component
+public class PasswordHashPolicy {
+
+    private static final int MIN_LOG_ROUNDS = 4;
+
+    private static final int MAX_LOG_ROUNDS = 31;
+
+    private final int memberLogRounds;
+
+    private final int guestLogRounds;
+
+    public PasswordHashPolicy(@Value("${password-hash.log-rounds.member:10}") int memberLogRounds,
+                              @Value("${password-hash.log-rounds.guest:10}") int guestLogRounds
+    ) {
+        this.memberLogRounds = validate(memberLogRounds);
+        this.guestLogRounds = validate(guestLogRounds);
+    }
+
+    public String encryptForMember(String password) {
+        return EncryptUtils.encrypt(password, memberLogRounds);
+    }
+
+    public String encryptForGuest(String password) {
+        return EncryptUtils.encrypt(password, guestLogRounds);
+    }
+
+    public String encrypt(User user, String password) {
+        return EncryptUtils.encrypt(password, getLogRounds(user));
+    }
+
+    public boolean needsRehash(User user) {
+        return EncryptUtils.getLogRounds(user.getPassword()) != getLogRounds(user);
+    }
+
+    private int getLogRounds(User user) {
+        return user instanceof Guest ? guestLogRounds : memberLogRounds;
+    }
+
+    private static int validate(int logRounds) {
+        if (logRounds < MIN_LOG_ROUNDS || logRounds > MAX_LOG_ROUNDS) {
+            throw new IllegalArgumentException("BCrypt log rounds must be between 4 and 31: " + logRounds);
+        }
+
+        return logRounds;
+    }
+}
@@ -0,0 +1,140 @@
+package com.eunbinlib.api.application.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 글별 카운터 증가분을 메모리에 모았다가 flush 할 때 DB 에 반영한다.
+ * 반영에 실패한 증가분은 다음 flush 에서 다시 반영한다.
+ * <p>
+ * 최선을 다할 뿐 보장하지는 않는다. 종료할 때는 남은 증가분을 반영하지만,
+ * 프로세스가 갑자기 죽으면 마지막 flush 이후 한 주기 동안의 증가분을 잃는다.
+ * 대기/반영/실패 수는 getter 로만 읽을 수 있고, 메트릭으로 등록하지는 않는다.
+ */
+@Slf4j
+public abstract class PostCountBuffer {
+
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final LongAdder flushedDelta = new LongAdder();
+
+    private final LongAdder failedFlushCount = new LongAdder();
+
+    private volatile Buffer current = new Buffer();
+
+    /**
+     * 버퍼를 새 버퍼로 바꾼 뒤, 예전 버퍼에 쓰고 있던 요청이 끝나면 증가분이 같은 글끼리 묶어서 반영한다.
+     */
+    public synchronized void flush() {
+        Buffer drained = current;
+        current = new Buffer();
+        drained.awaitWriters();
+
+        drained.groupByDelta().forEach((delta, postIds) -> {
+            for (int from = 0; from < postIds.size(); from += MAX_IDS_PER_STATEMENT) {
+                write(delta, postIds.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, postIds.size())));
+            }
+        });
+    }
+
+    public long getPendingPostCount() {
+        return current.counts.size();
+    }
+
+    public long getPendingDelta() {
+        return current.counts.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * 아직 flush 하지 않은 글의 증가분
+     */
+    public long getPendingDelta(Long postId) {
+        LongAdder count = current.counts.get(postId);
+        return count == null ? 0L : count.sum();
+    }
+
+    public long getFlushedDelta() {
+        return flushedDelta.sum();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.sum();
+    }
+
+    /**
+     * 증가분이 같은 글들의 카운터를 한 번에 반영한다.
+     */
+    protected abstract void update(long delta, List<Long> postIds);
+
+    protected void add(Long postId, long delta) {
+        while (true) {
+            Buffer buffer = current;
+            buffer.writers.incrementAndGet();
+            try {
+                // NOTE: 그 사이에 버퍼가 바뀌었다면 flush 가 이미 읽어 갔을 수 있으므로 새 버퍼에 다시 쓴다.
+                if (buffer == current) {
+                    buffer.add(postId, delta);
+                    return;
+                }
+            } finally {
+                buffer.writers.decrementAndGet();
+            }
+        }
+    }
+
+    private void write(long delta, List<Long> postIds) {
+        try {
+            update(delta, postIds);
+            flushedDelta.add(delta * postIds.size());
+        } catch (Exception e) {
+            log.warn("{} flush failed: delta={}, posts={}", getClass().getSimpleName(), delta, postIds.size(), e);
+            failedFlushCount.increment();
+            postIds.forEach(postId -> add(postId, delta));
+        }
+    }
+
+    private static class Buffer {
+
+        private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private final AtomicLong writers = new AtomicLong();
+
+        private void add(Long postId, long delta) {
+            LongAdder count = counts.get(postId);
+            if (count == null) {
+                count = counts.computeIfAbsent(postId, key -> new LongAdder());
+            }
+            count.add(delta);
+        }
+
+        private void awaitWriters() {
+            while (writers.get() != 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * 서로 상쇄되어 증가분이 0 인 글은 제외한다.
+         */
+        private Map<Long, List<Long>> groupByDelta() {
+            Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+            counts.forEach((postId, count) -> {
+                long delta = count.sum();
+                if (delta != 0) {
+                    postIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(postId);
+                }
+            });
+
+            return postIdsByDelta;
+        }
+    }
+}
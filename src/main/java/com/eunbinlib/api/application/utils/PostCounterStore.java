@@ -0,0 +1,116 @@
+package com.eunbinlib.api.application.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 글의 조회수와 좋아요 수를 Redis hash 에 보관한다.
+ * 캐시된 상세 응답의 본문은 그대로 두고 이 값만 덮어써서 내려주므로, 카운터가 바뀌어도 상세 캐시는 무효화되지 않는다.
+ * 항목이 없으면 DB 값에 아직 반영하지 않은 증가분을 더해서 채우고, Redis 에 접근할 수 없으면 그 값을 그대로 사용한다.
+ * 다른 노드에서 아직 반영하지 않은 증가분은 빠질 수 있으므로, 항목은 채운 뒤 ttl 이 지나면 조회와 상관없이 사라지고 다시 채워진다.
+ */
+@Slf4j
+@Component
+public class PostCounterStore {
+
+    private static final String KEY_PREFIX = "postCounter:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then\n" +
+            "  return nil\n" +
+            "end\n" +
+            "local view = redis.call('HINCRBY', KEYS[1], 'view', ARGV[1])\n" +
+            "return {view, tonumber(redis.call('HGET', KEYS[1], 'like'))}",
+            List.class
+    );
+
+    /**
+     * 다른 요청이 먼저 채웠으면 그 값을 그대로 쓴다. 만료 시간은 채울 때만 정한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEED_AND_INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then\n" +
+            "  redis.call('HMSET', KEYS[1], 'view', ARGV[1], 'like', ARGV[2])\n" +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[4])\n" +
+            "end\n" +
+            "local view = redis.call('HINCRBY', KEYS[1], 'view', ARGV[3])\n" +
+            "return {view, tonumber(redis.call('HGET', KEYS[1], 'like'))}",
+            List.class
+    );
+
+    private static final RedisScript<Long> ADD_LIKE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then\n" +
+            "  return 0\n" +
+            "end\n" +
+            "return redis.call('HINCRBY', KEYS[1], 'like', ARGV[1])",
+            Long.class
+    );
+
+    private final long ttlMillis;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public PostCounterStore(@Value("${post-counter.ttl-millis:86400000}") long ttlMillis,
+                            StringRedisTemplate stringRedisTemplate
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 조회수를 1 올리고 올린 뒤의 카운터를 반환한다.
+     *
+     * @param seed 항목이 없을 때 채울 카운터. 이번 조회는 포함하지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public PostCounters increaseView(Long postId, Supplier<PostCounters> seed) {
+        String key = KEY_PREFIX + postId;
+        try {
+            List<Long> counters = stringRedisTemplate.execute(INCREASE_SCRIPT, List.of(key), "1");
+            if (counters == null) {
+                PostCounters seedCounters = seed.get();
+                counters = stringRedisTemplate.execute(SEED_AND_INCREASE_SCRIPT, List.of(key),
+                        String.valueOf(seedCounters.getViewCount()),
+                        String.valueOf(seedCounters.getLikeCount()),
+                        "1",
+                        String.valueOf(ttlMillis));
+            }
+
+            return new PostCounters(counters.get(0), counters.get(1));
+        } catch (Exception e) {
+            log.warn("post counter update failed: postId={}", postId, e);
+            PostCounters seedCounters = seed.get();
+            return new PostCounters(seedCounters.getViewCount() + 1L, seedCounters.getLikeCount());
+        }
+    }
+
+    /**
+     * 이미 채워진 카운터만 바꾼다. 없으면 다음 상세 조회에서 DB 값으로 채워진다.
+     */
+    public void addLike(Long postId, long delta) {
+        try {
+            stringRedisTemplate.execute(ADD_LIKE_SCRIPT, List.of(KEY_PREFIX + postId), String.valueOf(delta));
+        } catch (Exception e) {
+            log.warn("post like counter update failed: postId={}", postId, e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PostCounters {
+
+        private final long viewCount;
+
+        private final long likeCount;
+    }
+}
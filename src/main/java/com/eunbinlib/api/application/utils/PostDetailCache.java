@@ -0,0 +1,226 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.dto.response.postdetailresponse.PostDetailResponse;
+import com.eunbinlib.api.application.event.CommentChangedEvent;
+import com.eunbinlib.api.application.event.PostChangedEvent;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import com.eunbinlib.api.cache.ExpiringCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 조립이 끝난 글 상세 응답을 노드 메모리와 Redis 에 보관한다.
+ * Redis 에는 글마다 hash 하나에 버전과 본문을 두고, 본문은 읽은 시점의 버전이 그대로일 때만 저장한다.
+ * 글이나 댓글이 바뀌어 커밋되면 버전을 올리고 다른 노드의 메모리 캐시에도 pub/sub 으로 알린다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    public static final String CHANNEL = "postDetail";
+
+    private static final String KEY_PREFIX = "postDetail:";
+
+    private static final String NO_VERSION = "0";
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('HGET', KEYS[1], 'version') or '0') ~= ARGV[1] then\n" +
+            "  return 0\n" +
+            "end\n" +
+            "redis.call('HMSET', KEYS[1], 'body', ARGV[2], 'bodyVersion', ARGV[1])\n" +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3])\n" +
+            "return 1",
+            Long.class
+    );
+
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('HINCRBY', KEYS[1], 'version', 1)\n" +
+            "redis.call('HDEL', KEYS[1], 'body', 'bodyVersion')\n" +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1])\n" +
+            "return version",
+            Long.class
+    );
+
+    private final ExpiringCache<Long, PostDetailResponse> localCache;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final LongAdder remoteHitCount = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final long localTtlMillis;
+
+    private final long ttlMillis;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public PostDetailCache(@Value("${post-detail-cache.local.max-entries:10000}") long localMaxEntries,
+                           @Value("${post-detail-cache.local.ttl-millis:60000}") long localTtlMillis,
+                           @Value("${post-detail-cache.ttl-millis:600000}") long ttlMillis,
+                           StringRedisTemplate stringRedisTemplate,
+                           ObjectMapper objectMapper,
+                           CacheInvalidationBus invalidationBus
+    ) {
+        this.localCache = new ExpiringCache<>(localMaxEntries);
+        this.localTtlMillis = localTtlMillis;
+        this.ttlMillis = ttlMillis;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+
+        invalidationBus.subscribe(CHANNEL, this::onRemoteInvalidate);
+    }
+
+    /**
+     * 메모리, Redis 순서로 찾고, 둘 다 없으면 loader 로 조립한 응답을 저장한다.
+     */
+    public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+        PostDetailResponse cached = localCache.get(postId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(postId);
+        long localVersion = versions.get(stripe);
+
+        List<Object> entry = readRemote(postId);
+        String remoteVersion = entry == null || entry.get(0) == null ? NO_VERSION : (String) entry.get(0);
+
+        PostDetailResponse detail = entry == null ? null : deserialize(postId, remoteVersion, entry);
+        if (detail != null) {
+            remoteHitCount.increment();
+        } else {
+            loadCount.increment();
+            detail = loader.get();
+            if (entry != null) {
+                writeRemote(postId, remoteVersion, detail);
+            }
+        }
+
+        localCache.put(postId, detail, System.currentTimeMillis() + localTtlMillis);
+
+        // NOTE: 조회하는 사이에 무효화되었다면 방금 저장한 응답은 이미 예전 값이다.
+        if (versions.get(stripe) != localVersion) {
+            localCache.remove(postId);
+        }
+
+        return detail;
+    }
+
+    public void invalidate(Long postId) {
+        invalidateLocal(postId);
+
+        try {
+            stringRedisTemplate.execute(INVALIDATE_SCRIPT, List.of(KEY_PREFIX + postId), String.valueOf(ttlMillis));
+        } catch (Exception e) {
+            log.warn("post detail invalidation failed: postId={}", postId, e);
+        }
+
+        invalidationBus.publishEvict(CHANNEL, String.valueOf(postId));
+    }
+
+    public void clear() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        localCache.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    public long size() {
+        return localCache.size();
+    }
+
+    public long getLocalHitCount() {
+        return localCache.getHitCount();
+    }
+
+    public long getRemoteHitCount() {
+        return remoteHitCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    private List<Object> readRemote(Long postId) {
+        try {
+            return stringRedisTemplate.opsForHash()
+                    .multiGet(KEY_PREFIX + postId, List.of("version", "body", "bodyVersion"));
+        } catch (Exception e) {
+            log.warn("post detail read failed: postId={}", postId, e);
+            return null;
+        }
+    }
+
+    private PostDetailResponse deserialize(Long postId, String version, List<Object> entry) {
+        if (entry.get(1) == null || !version.equals(entry.get(2))) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue((String) entry.get(1), PostDetailResponse.class);
+        } catch (Exception e) {
+            log.warn("invalid post detail entry: postId={}", postId, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(Long postId, String version, PostDetailResponse detail) {
+        try {
+            stringRedisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + postId),
+                    version, objectMapper.writeValueAsString(detail), String.valueOf(ttlMillis));
+        } catch (Exception e) {
+            log.warn("post detail write failed: postId={}", postId, e);
+        }
+    }
+
+    private void invalidateLocal(Long postId) {
+        versions.incrementAndGet(stripe(postId));
+        localCache.remove(postId);
+    }
+
+    private void onRemoteInvalidate(String key) {
+        if (key == null) {
+            clear();
+            return;
+        }
+
+        try {
+            invalidateLocal(Long.parseLong(key));
+        } catch (NumberFormatException e) {
+            log.warn("invalid post detail message: {}", key, e);
+        }
+    }
+
+    private static int stripe(Long postId) {
+        return (int) (Long.hashCode(postId) & (VERSION_STRIPES - 1));
+    }
+}
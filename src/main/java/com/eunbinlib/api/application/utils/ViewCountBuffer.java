@@ -0,0 +1,41 @@
+package com.eunbinlib.api.application.utils;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+/**
+ * 글 조회수 증가분을 메모리에 모았다가 주기적으로 DB 에 반영한다.
+ * 조회할 때마다 글 행을 수정하지 않으므로, 많이 읽히는 글의 행 잠금 경합이 사라진다.
+ * 애플리케이션이 종료될 때 남은 증가분을 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer extends PostCountBuffer {
+
+    private final PostRepository postRepository;
+
+    public void record(Long postId) {
+        add(postId, 1L);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-millis:1000}")
+    public void flush() {
+        super.flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    protected void update(long delta, List<Long> postIds) {
+        postRepository.addViewCount(delta, postIds);
+    }
+}
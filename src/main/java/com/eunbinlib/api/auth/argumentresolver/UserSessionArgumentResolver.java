@@ -1,8 +1,9 @@
 package com.eunbinlib.api.auth.argumentresolver;
 
+import com.eunbinlib.api.auth.data.AuthContext;
 import com.eunbinlib.api.auth.data.UserSession;
 import com.eunbinlib.api.auth.utils.AuthService;
-import com.eunbinlib.api.auth.utils.AuthorizationExtractor;
+import com.eunbinlib.api.auth.utils.SessionResolver;
 import com.eunbinlib.api.auth.exception.type.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,8 @@ public class UserSessionArgumentResolver implements HandlerMethodArgumentResolve
 
     private final AuthService authService;
 
+    private final SessionResolver sessionResolver;
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.getParameterType().equals(UserSession.class);
@@ -32,8 +35,8 @@ public class UserSessionArgumentResolver implements HandlerMethodArgumentResolve
             return new UnauthorizedException();
         }
 
-        String accessToken = AuthorizationExtractor.extractToken(request);
+        AuthContext authContext = authService.resolveAuthContext(request);
 
-        return authService.getSession(accessToken);
+        return sessionResolver.getSession(authContext);
     }
 }
@@ -0,0 +1,36 @@
+package com.eunbinlib.api.auth.data;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Getter;
+
+import static com.eunbinlib.api.auth.data.AuthProperties.USERNAME;
+import static com.eunbinlib.api.auth.data.AuthProperties.USER_TYPE;
+
+/**
+ * 한 요청 안에서 검증이 끝난 엑세스 토큰과 그 클레임을 보관한다.
+ * 인터셉터에서 한 번만 만들어 request attribute 로 저장하고, 이후의 argument resolver 들은 이 값을 재사용한다.
+ */
+@Getter
+public class AuthContext {
+
+    public static final String ATTRIBUTE_NAME = AuthContext.class.getName();
+
+    private final String accessToken;
+
+    private final Claims claims;
+
+    @Builder
+    public AuthContext(String accessToken, Claims claims) {
+        this.accessToken = accessToken;
+        this.claims = claims;
+    }
+
+    public String getUsername() {
+        return claims.get(USERNAME, String.class);
+    }
+
+    public String getUserType() {
+        return claims.get(USER_TYPE, String.class);
+    }
+}
@@ -8,6 +8,12 @@ public interface AuthProperties {
 
     String USERNAME = "username";
 
+    String USER_ID = "userId";
+
+    String NICKNAME = "nickname";
+
+    String SESSION_VERSION = "sessionVersion";
+
     String TOKEN_PREFIX = "Bearer ";
 
     String AUTHORIZATION_HEADER = "Authorization";
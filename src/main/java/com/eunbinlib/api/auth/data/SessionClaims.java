@@ -0,0 +1,72 @@
+package com.eunbinlib.api.auth.data;
+
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.domain.user.User;
+import io.jsonwebtoken.Claims;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.eunbinlib.api.auth.data.AuthProperties.NICKNAME;
+import static com.eunbinlib.api.auth.data.AuthProperties.SESSION_VERSION;
+import static com.eunbinlib.api.auth.data.AuthProperties.USER_ID;
+import static com.eunbinlib.api.auth.data.AuthProperties.USERNAME;
+import static com.eunbinlib.api.auth.data.AuthProperties.USER_TYPE;
+
+/**
+ * 엑세스 토큰에 담는 세션 정보 클레임.
+ * 토큰에 이 클레임이 있으면 DB 를 조회하지 않고 {@link UserSession} 을 만들 수 있다.
+ */
+public final class SessionClaims {
+
+    private SessionClaims() {
+    }
+
+    public static Map<String, Object> of(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID, user.getId());
+
+        if (user instanceof Member) {
+            Member member = (Member) user;
+            claims.put(NICKNAME, member.getNickname().getValue());
+            claims.put(SESSION_VERSION, member.getSessionVersion());
+        }
+
+        return claims;
+    }
+
+    public static boolean isPresent(Claims claims) {
+        return claims.get(USER_ID) != null;
+    }
+
+    public static long getUserId(Claims claims) {
+        return claims.get(USER_ID, Number.class).longValue();
+    }
+
+    public static long getSessionVersion(Claims claims) {
+        Number sessionVersion = claims.get(SESSION_VERSION, Number.class);
+        return sessionVersion != null ? sessionVersion.longValue() : 0L;
+    }
+
+    public static UserSession toSession(Claims claims) {
+        long userId = getUserId(claims);
+        String userType = claims.get(USER_TYPE, String.class);
+        String username = claims.get(USERNAME, String.class);
+        String nickname = claims.get(NICKNAME, String.class);
+
+        if (nickname != null) {
+            return MemberSession.builder()
+                    .id(userId)
+                    .userType(userType)
+                    .username(username)
+                    .nickname(nickname)
+                    .build();
+        }
+
+        return UserSession.builder()
+                .id(userId)
+                .userType(userType)
+                .username(username)
+                .build();
+    }
+}
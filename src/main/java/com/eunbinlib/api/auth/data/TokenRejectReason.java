@@ -0,0 +1,32 @@
+package com.eunbinlib.api.auth.data;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.SignatureException;
+
+/**
+ * 토큰 검증에 실패한 이유.
+ * 요구하는 클레임은 토큰 종류뿐이므로, 클레임 검증 실패는 모두 토큰 종류 오류로 본다.
+ */
+public enum TokenRejectReason {
+
+    EXPIRED,
+    BAD_SIGNATURE,
+    WRONG_TOKEN_TYPE,
+    MALFORMED;
+
+    public static TokenRejectReason from(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return EXPIRED;
+        }
+        if (e instanceof SignatureException) {
+            return BAD_SIGNATURE;
+        }
+        if (e instanceof IncorrectClaimException || e instanceof MissingClaimException) {
+            return WRONG_TOKEN_TYPE;
+        }
+
+        return MALFORMED;
+    }
+}
@@ -14,6 +14,17 @@ public class CustomJwtException extends EunbinlibAuthException {
         super(MESSAGE, cause);
     }
 
+    private CustomJwtException(final boolean writableStackTrace) {
+        super(MESSAGE, writableStackTrace);
+    }
+
+    /**
+     * 이미 거부된 토큰을 다시 거부할 때 사용한다. 스택 트레이스를 채우지 않는다.
+     */
+    public static CustomJwtException withoutStackTrace() {
+        return new CustomJwtException(false);
+    }
+
     @Override
     public int getStatusCode() {
         return HttpStatus.UNAUTHORIZED.value();
@@ -10,5 +10,9 @@ public abstract class EunbinlibAuthException extends RuntimeException {
         super(message, cause);
     }
 
+    protected EunbinlibAuthException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
     public abstract int getStatusCode();
 }
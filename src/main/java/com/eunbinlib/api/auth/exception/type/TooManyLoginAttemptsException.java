@@ -0,0 +1,17 @@
+package com.eunbinlib.api.auth.exception.type;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyLoginAttemptsException extends EunbinlibAuthException {
+
+    private static final String MESSAGE = "로그인 시도가 너무 많습니다. %d초 후에 다시 시도해주세요.";
+
+    public TooManyLoginAttemptsException(long retryAfterMillis) {
+        super(String.format(MESSAGE, Math.max(1L, (retryAfterMillis + 999L) / 1000L)));
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+}
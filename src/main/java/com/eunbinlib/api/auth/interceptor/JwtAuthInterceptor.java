@@ -1,7 +1,6 @@
 package com.eunbinlib.api.auth.interceptor;
 
 import com.eunbinlib.api.auth.utils.AuthService;
-import com.eunbinlib.api.auth.utils.AuthorizationExtractor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -17,9 +16,7 @@ public class JwtAuthInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String accessToken = AuthorizationExtractor.extractToken(request);
-
-        authService.validateAccessToken(accessToken);
+        authService.resolveAuthContext(request);
 
         return true;
     }
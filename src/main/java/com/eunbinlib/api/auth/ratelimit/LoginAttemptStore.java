@@ -0,0 +1,16 @@
+package com.eunbinlib.api.auth.ratelimit;
+
+public interface LoginAttemptStore {
+
+    /**
+     * 토큰 하나를 소비한다.
+     *
+     * @return 다시 시도할 수 있을 때까지 남은 시간(ms). 0 이면 시도할 수 있다.
+     */
+    long tryAcquire(String key, RateLimitPolicy policy);
+
+    void recordFailure(String key, RateLimitPolicy policy);
+
+    void recordSuccess(String key, RateLimitPolicy policy);
+
+}
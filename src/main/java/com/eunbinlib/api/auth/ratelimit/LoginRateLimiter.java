@@ -0,0 +1,72 @@
+package com.eunbinlib.api.auth.ratelimit;
+
+import com.eunbinlib.api.auth.exception.type.TooManyLoginAttemptsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 검증(BCrypt) 전에 클라이언트 주소와 username 단위로 로그인 시도를 제한한다.
+ * 제한에 걸린 요청은 DB 조회나 해시 계산 없이 바로 거절된다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String ADDRESS_KEY_PREFIX = "address:";
+
+    private static final String USERNAME_KEY_PREFIX = "username:";
+
+    private final LoginAttemptStore loginAttemptStore;
+
+    private final RateLimitPolicy addressPolicy;
+
+    private final RateLimitPolicy usernamePolicy;
+
+    public LoginRateLimiter(LoginAttemptStore loginAttemptStore,
+                            @Value("${login-rate-limit.address.capacity:30}") long addressCapacity,
+                            @Value("${login-rate-limit.address.refill-per-minute:30}") long addressRefillPerMinute,
+                            @Value("${login-rate-limit.username.capacity:5}") long usernameCapacity,
+                            @Value("${login-rate-limit.username.refill-per-minute:5}") long usernameRefillPerMinute,
+                            @Value("${login-rate-limit.failure-threshold:5}") int failureThreshold,
+                            @Value("${login-rate-limit.base-backoff-millis:1000}") long baseBackoffMillis,
+                            @Value("${login-rate-limit.max-backoff-millis:900000}") long maxBackoffMillis
+    ) {
+        this.loginAttemptStore = loginAttemptStore;
+        this.addressPolicy = RateLimitPolicy.builder()
+                .capacity(addressCapacity)
+                .refillPerMinute(addressRefillPerMinute)
+                .failureThreshold(failureThreshold)
+                .baseBackoffMillis(baseBackoffMillis)
+                .maxBackoffMillis(maxBackoffMillis)
+                .build();
+        this.usernamePolicy = RateLimitPolicy.builder()
+                .capacity(usernameCapacity)
+                .refillPerMinute(usernameRefillPerMinute)
+                .failureThreshold(failureThreshold)
+                .baseBackoffMillis(baseBackoffMillis)
+                .maxBackoffMillis(maxBackoffMillis)
+                .build();
+    }
+
+    public void checkAllowed(String username, String clientAddress) {
+        long waitMillis = loginAttemptStore.tryAcquire(ADDRESS_KEY_PREFIX + clientAddress, addressPolicy);
+        if (waitMillis == 0L) {
+            waitMillis = loginAttemptStore.tryAcquire(USERNAME_KEY_PREFIX + username, usernamePolicy);
+        }
+
+        if (waitMillis > 0L) {
+            throw new TooManyLoginAttemptsException(waitMillis);
+        }
+    }
+
+    public void onFailure(String username, String clientAddress) {
+        loginAttemptStore.recordFailure(ADDRESS_KEY_PREFIX + clientAddress, addressPolicy);
+        loginAttemptStore.recordFailure(USERNAME_KEY_PREFIX + username, usernamePolicy);
+    }
+
+    /**
+     * 주소 단위의 실패 기록은 유지한다. (한 주소에서 여러 계정을 시도하는 경우를 막기 위해)
+     */
+    public void onSuccess(String username) {
+        loginAttemptStore.recordSuccess(USERNAME_KEY_PREFIX + username, usernamePolicy);
+    }
+}
@@ -0,0 +1,169 @@
+package com.eunbinlib.api.auth.ratelimit;
+
+import com.eunbinlib.api.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 메모리에 로그인 시도 상태를 보관한다.
+ * 키를 여러 stripe 로 나누어 stripe 단위로만 락을 잡고, 각 stripe 는 항목 수 상한이 있는 {@link ExpiringCache} 이다.
+ * 버킷이 가득 차고 실패 기록이 없는 상태는 저장하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "login-rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private final List<ExpiringCache<String, AttemptState>> stripes = new ArrayList<>();
+
+    private final LongSupplier clock;
+
+    @Autowired
+    public MemoryLoginAttemptStore(@Value("${login-rate-limit.memory.max-entries:100000}") long maxEntries,
+                                   @Value("${login-rate-limit.memory.stripes:64}") int stripeCount
+    ) {
+        this(maxEntries, stripeCount, System::currentTimeMillis);
+    }
+
+    public MemoryLoginAttemptStore(long maxEntries, int stripeCount, LongSupplier clock) {
+        long maxEntriesPerStripe = Math.max(1L, maxEntries / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new ExpiringCache<>(maxEntriesPerStripe, Long.MAX_VALUE, (key, value) -> 0L, clock));
+        }
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        ExpiringCache<String, AttemptState> stripe = stripeOf(key);
+
+        synchronized (stripe) {
+            long now = clock.getAsLong();
+            AttemptState state = getOrCreate(stripe, key, policy, now);
+
+            long waitMillis = state.tryAcquire(policy, now);
+            stripe.put(key, state, state.expireAt(policy, now));
+
+            return waitMillis;
+        }
+    }
+
+    @Override
+    public void recordFailure(String key, RateLimitPolicy policy) {
+        ExpiringCache<String, AttemptState> stripe = stripeOf(key);
+
+        synchronized (stripe) {
+            long now = clock.getAsLong();
+            AttemptState state = getOrCreate(stripe, key, policy, now);
+
+            state.recordFailure(policy, now);
+            stripe.put(key, state, state.expireAt(policy, now));
+        }
+    }
+
+    @Override
+    public void recordSuccess(String key, RateLimitPolicy policy) {
+        ExpiringCache<String, AttemptState> stripe = stripeOf(key);
+
+        synchronized (stripe) {
+            AttemptState state = stripe.get(key);
+            if (state == null) {
+                return;
+            }
+
+            long now = clock.getAsLong();
+            state.reset(policy, now);
+            stripe.remove(key);
+            stripe.put(key, state, state.expireAt(policy, now));
+        }
+    }
+
+    public long size() {
+        return stripes.stream()
+                .mapToLong(ExpiringCache::size)
+                .sum();
+    }
+
+    private ExpiringCache<String, AttemptState> stripeOf(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+
+        return stripes.get((hash & Integer.MAX_VALUE) % stripes.size());
+    }
+
+    private static AttemptState getOrCreate(ExpiringCache<String, AttemptState> stripe, String key, RateLimitPolicy policy, long now) {
+        AttemptState state = stripe.get(key);
+        return state != null ? state : new AttemptState(policy.getCapacity(), now);
+    }
+
+    private static class AttemptState {
+
+        private double tokens;
+
+        private long refilledAt;
+
+        private long failures;
+
+        private long lastFailureAt;
+
+        private long blockedUntil;
+
+        private AttemptState(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private long tryAcquire(RateLimitPolicy policy, long now) {
+            refill(policy, now);
+
+            if (blockedUntil > now) {
+                return blockedUntil - now;
+            }
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / policy.getRefillPerMillis());
+            }
+
+            tokens -= 1;
+            return 0L;
+        }
+
+        private void recordFailure(RateLimitPolicy policy, long now) {
+            refill(policy, now);
+
+            failures++;
+            lastFailureAt = now;
+
+            long backoffMillis = policy.backoffMillis(failures);
+            if (backoffMillis > 0) {
+                blockedUntil = now + backoffMillis;
+            }
+        }
+
+        private void reset(RateLimitPolicy policy, long now) {
+            refill(policy, now);
+
+            failures = 0;
+            blockedUntil = 0;
+        }
+
+        private void refill(RateLimitPolicy policy, long now) {
+            tokens = Math.min(policy.getCapacity(), tokens + (now - refilledAt) * policy.getRefillPerMillis());
+            refilledAt = now;
+        }
+
+        private long expireAt(RateLimitPolicy policy, long now) {
+            long expireAt = Math.max(now + policy.millisUntilFull(tokens), blockedUntil);
+            if (failures > 0) {
+                expireAt = Math.max(expireAt, lastFailureAt + policy.stateTtlMillis());
+            }
+
+            return expireAt;
+        }
+    }
+}
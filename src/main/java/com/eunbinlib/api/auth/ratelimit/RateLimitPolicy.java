@@ -0,0 +1,57 @@
+package com.eunbinlib.api.auth.ratelimit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 토큰 버킷 크기/충전 속도와 연속 실패 시 차단 시간(지수 백오프) 설정.
+ */
+@Getter
+public class RateLimitPolicy {
+
+    private final long capacity;
+
+    private final double refillPerMillis;
+
+    private final int failureThreshold;
+
+    private final long baseBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    @Builder
+    public RateLimitPolicy(long capacity, long refillPerMinute, int failureThreshold, long baseBackoffMillis, long maxBackoffMillis) {
+        this.capacity = capacity;
+        this.refillPerMillis = refillPerMinute / 60_000.0;
+        this.failureThreshold = failureThreshold;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * 연속 실패가 기준 횟수에 도달하면 base 부터 실패할 때마다 두 배씩, 최대 maxBackoffMillis 까지 차단한다.
+     */
+    public long backoffMillis(long failures) {
+        if (failures < failureThreshold) {
+            return 0L;
+        }
+
+        long shift = failures - failureThreshold;
+        if (shift >= 32 || baseBackoffMillis << shift >= maxBackoffMillis) {
+            return maxBackoffMillis;
+        }
+
+        return baseBackoffMillis << shift;
+    }
+
+    public long millisUntilFull(double tokens) {
+        return (long) Math.ceil((capacity - tokens) / refillPerMillis);
+    }
+
+    /**
+     * 상태를 기억해야 하는 최대 시간. 실패 횟수도 이 시간 동안만 유지한다.
+     */
+    public long stateTtlMillis() {
+        return Math.max(maxBackoffMillis, millisUntilFull(0));
+    }
+}
@@ -0,0 +1,101 @@
+package com.eunbinlib.api.auth.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 해시에 로그인 시도 상태를 보관해서 여러 노드가 같은 제한을 공유한다.
+ * 상태 변경은 Lua 스크립트로 원자적으로 처리하고, Redis 에 접근할 수 없으면 로그인을 막지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "login-rate-limit.store", havingValue = "redis")
+public class RedisLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String KEY_PREFIX = "loginAttempt:";
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1])\n" +
+            "local capacity = tonumber(ARGV[2])\n" +
+            "local refill = tonumber(ARGV[3])\n" +
+            "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'blockedUntil')\n" +
+            "local tokens = tonumber(state[1]) or capacity\n" +
+            "local ts = tonumber(state[2]) or now\n" +
+            "local blockedUntil = tonumber(state[3]) or 0\n" +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill)\n" +
+            "local wait = 0\n" +
+            "if blockedUntil > now then\n" +
+            "  wait = blockedUntil - now\n" +
+            "elseif tokens < 1 then\n" +
+            "  wait = math.ceil((1 - tokens) / refill)\n" +
+            "else\n" +
+            "  tokens = tokens - 1\n" +
+            "end\n" +
+            "redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'ts', ARGV[1])\n" +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4])\n" +
+            "return wait",
+            Long.class
+    );
+
+    private static final RedisScript<Long> FAILURE_SCRIPT = new DefaultRedisScript<>(
+            "local failures = redis.call('HINCRBY', KEYS[1], 'failures', 1)\n" +
+            "if failures >= tonumber(ARGV[2]) then\n" +
+            "  local backoff = math.min(tonumber(ARGV[4]), tonumber(ARGV[3]) * 2 ^ math.min(failures - tonumber(ARGV[2]), 32))\n" +
+            "  redis.call('HSET', KEYS[1], 'blockedUntil', string.format('%.0f', tonumber(ARGV[1]) + backoff))\n" +
+            "end\n" +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5])\n" +
+            "return failures",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisLoginAttemptStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        try {
+            Long waitMillis = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(policy.getRefillPerMillis()),
+                    String.valueOf(policy.stateTtlMillis()));
+
+            return waitMillis != null ? waitMillis : 0L;
+        } catch (Exception e) {
+            log.warn("login rate limit unavailable: key={}", key, e);
+            return 0L;
+        }
+    }
+
+    @Override
+    public void recordFailure(String key, RateLimitPolicy policy) {
+        try {
+            stringRedisTemplate.execute(FAILURE_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(policy.getFailureThreshold()),
+                    String.valueOf(policy.getBaseBackoffMillis()),
+                    String.valueOf(policy.getMaxBackoffMillis()),
+                    String.valueOf(policy.stateTtlMillis()));
+        } catch (Exception e) {
+            log.warn("login failure not recorded: key={}", key, e);
+        }
+    }
+
+    @Override
+    public void recordSuccess(String key, RateLimitPolicy policy) {
+        try {
+            stringRedisTemplate.opsForHash().delete(KEY_PREFIX + key, "failures", "blockedUntil");
+        } catch (Exception e) {
+            log.warn("login success not recorded: key={}", key, e);
+        }
+    }
+}
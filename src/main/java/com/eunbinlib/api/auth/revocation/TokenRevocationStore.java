@@ -0,0 +1,141 @@
+package com.eunbinlib.api.auth.revocation;
+
+import com.eunbinlib.api.cache.BloomFilter;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 폐기된 토큰의 jti 를 Redis 에 토큰 만료 시각까지 보관한다.
+ * 노드마다 폐기된 jti 의 Bloom filter 를 두어서, 폐기되지 않은 토큰(대부분의 요청)은 Redis 를 조회하지 않는다.
+ * 다른 노드의 폐기는 pub/sub 으로 전달 받고, 만료된 항목을 정리하기 위해 주기적으로 Redis 에서 filter 를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    public static final String CHANNEL = "revokedToken";
+
+    private static final String KEY_PREFIX = "revokedToken:";
+
+    private static final String REVOKED = "1";
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter rebuildingFilter;
+
+    public TokenRevocationStore(@Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                StringRedisTemplate stringRedisTemplate,
+                                CacheInvalidationBus invalidationBus
+    ) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        invalidationBus.subscribe(CHANNEL, this::onRemoteRevoke);
+    }
+
+    public void revoke(String jti, Date expiration) {
+        long ttlMillis = expiration.getTime() - System.currentTimeMillis();
+        if (jti == null || ttlMillis <= 0) {
+            return;
+        }
+
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + jti, REVOKED, Duration.ofMillis(ttlMillis));
+        addToFilter(jti);
+        invalidationBus.publishEvict(CHANNEL, jti);
+    }
+
+    /**
+     * Bloom filter 에 없으면 I/O 없이 false 를 반환한다. 있으면 오탐일 수 있으므로 Redis 로 확인하고,
+     * Redis 에 접근할 수 없으면 폐기된 것으로 간주한다.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (Exception e) {
+            log.warn("revocation check failed: jti={}", jti, e);
+            return true;
+        }
+    }
+
+    /**
+     * 새 filter 를 만드는 동안 추가되는 jti 는 두 filter 에 모두 추가된다.
+     * Redis 에 먼저 저장한 뒤 filter 에 추가하므로, 스캔이 시작된 뒤의 폐기도 누락되지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-millis:3600000}")
+    public synchronized void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = next;
+
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                ScanOptions options = ScanOptions.scanOptions()
+                        .match(KEY_PREFIX + "*")
+                        .count(1_000L)
+                        .build();
+
+                try (Cursor<byte[]> cursor = connection.scan(options)) {
+                    while (cursor.hasNext()) {
+                        next.put(new String(cursor.next(), UTF_8).substring(KEY_PREFIX.length()));
+                    }
+                }
+
+                return null;
+            });
+
+            filter = next;
+        } catch (Exception e) {
+            log.warn("revocation filter rebuild failed", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void onRemoteRevoke(String jti) {
+        if (jti != null) {
+            addToFilter(jti);
+        }
+    }
+
+    /**
+     * 만들고 있는 filter 를 먼저 읽고 현재 filter 를 나중에 읽는다. rebuild 는 만들고 있는 filter 를 알린 뒤 바꿔 끼우고 알림을 지우므로,
+     * 만들고 있는 filter 를 보지 못했다면 rebuild 가 시작되기 전(스캔이 Redis 에 먼저 저장된 jti 를 읽는다)이거나
+     * 이미 바꿔 끼운 뒤(현재 filter 가 새 filter)다.
+     */
+    private void addToFilter(String jti) {
+        BloomFilter rebuilding = rebuildingFilter;
+        BloomFilter current = filter;
+
+        current.put(jti);
+        if (rebuilding != null && rebuilding != current) {
+            rebuilding.put(jti);
+        }
+    }
+}
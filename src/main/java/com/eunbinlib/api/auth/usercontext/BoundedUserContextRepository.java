@@ -0,0 +1,134 @@
+package com.eunbinlib.api.auth.usercontext;
+
+import com.eunbinlib.api.application.domain.user.User;
+import com.eunbinlib.api.auth.utils.TokenDigest;
+import com.eunbinlib.api.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰별 유저 정보를 리프레시 토큰의 유효 시간 동안만 보관하는 저장소.
+ * 키는 토큰 문자열 대신 다이제스트를 사용하고, 항목 수와 추정 바이트 수가 상한을 넘으면 만료가 가까운 항목부터 제거한다.
+ * 저장/갱신/삭제는 하나의 락으로 직렬화해서 두 인덱스(리프레시 토큰, 엑세스 토큰)가 항상 같은 상태를 가리키도록 한다.
+ */
+@Component
+public class BoundedUserContextRepository implements UserContextRepository {
+
+    private static final long NODE_OVERHEAD_BYTES = 96L;
+
+    private static final long CONTEXT_BYTES = 32L;
+
+    /**
+     * 두 인덱스의 노드와 다이제스트, 그리고 공유하는 컨텍스트 객체의 추정 크기 (유저 엔티티 자체는 제외)
+     */
+    private static final long ENTRY_BYTES = 2 * (NODE_OVERHEAD_BYTES + TokenDigest.BYTES) + CONTEXT_BYTES;
+
+    private final ExpiringCache<TokenDigest, Context> byRefreshToken;
+
+    private final ExpiringCache<TokenDigest, Context> byAccessToken;
+
+    private final long refreshTokenExpirationTime;
+
+    private final LongSupplier clock;
+
+    private final Object lock = new Object();
+
+    @Autowired
+    public BoundedUserContextRepository(@Value("${user-context.max-entries:100000}") long maxEntries,
+                                        @Value("${user-context.max-bytes:67108864}") long maxBytes,
+                                        @Value("${jwt.token.refresh-expiration-time}") long refreshTokenExpirationTime
+    ) {
+        this(maxEntries, maxBytes, refreshTokenExpirationTime, System::currentTimeMillis);
+    }
+
+    public BoundedUserContextRepository(long maxEntries, long maxBytes, long refreshTokenExpirationTime, LongSupplier clock) {
+        this.byRefreshToken = new ExpiringCache<>(maxEntries, maxBytes / 2, (key, value) -> ENTRY_BYTES / 2, clock);
+        this.byAccessToken = new ExpiringCache<>(maxEntries, maxBytes / 2, (key, value) -> ENTRY_BYTES / 2, clock);
+        this.refreshTokenExpirationTime = refreshTokenExpirationTime;
+        this.clock = clock;
+    }
+
+    @Override
+    public void saveUserInfo(String accessToken, String refreshToken, User user) {
+        Context context = new Context(TokenDigest.of(accessToken), user, clock.getAsLong() + refreshTokenExpirationTime);
+        TokenDigest refreshDigest = TokenDigest.of(refreshToken);
+
+        synchronized (lock) {
+            Context prev = byRefreshToken.remove(refreshDigest);
+            if (prev != null) {
+                byAccessToken.remove(prev.accessToken);
+            }
+
+            byRefreshToken.put(refreshDigest, context, context.expireAt);
+            byAccessToken.put(context.accessToken, context, context.expireAt);
+        }
+    }
+
+    @Override
+    public User findUserInfoByAccessToken(String accessToken) {
+        TokenDigest accessDigest = TokenDigest.of(accessToken);
+
+        Context context = byAccessToken.get(accessDigest);
+        return context != null ? context.user : null;
+    }
+
+    @Override
+    public void updateAccessToken(String newAccessToken, String refreshToken) {
+        TokenDigest refreshDigest = TokenDigest.of(refreshToken);
+        TokenDigest newAccessDigest = TokenDigest.of(newAccessToken);
+
+        synchronized (lock) {
+            Context prev = byRefreshToken.get(refreshDigest);
+            if (prev == null) {
+                return;
+            }
+
+            Context next = new Context(newAccessDigest, prev.user, prev.expireAt);
+            byAccessToken.remove(prev.accessToken);
+            byRefreshToken.put(refreshDigest, next, next.expireAt);
+            byAccessToken.put(newAccessDigest, next, next.expireAt);
+        }
+    }
+
+    @Override
+    public void expireUserInfoContext(String refreshToken) {
+        TokenDigest refreshDigest = TokenDigest.of(refreshToken);
+
+        synchronized (lock) {
+            Context context = byRefreshToken.remove(refreshDigest);
+            if (context != null) {
+                byAccessToken.remove(context.accessToken);
+            }
+        }
+    }
+
+    public long size() {
+        return byRefreshToken.size();
+    }
+
+    public long getEstimatedBytes() {
+        return byRefreshToken.weight() + byAccessToken.weight();
+    }
+
+    public long getEvictionCount() {
+        return byRefreshToken.getEvictionCount() + byAccessToken.getEvictionCount();
+    }
+
+    private static class Context {
+
+        private final TokenDigest accessToken;
+
+        private final User user;
+
+        private final long expireAt;
+
+        private Context(TokenDigest accessToken, User user, long expireAt) {
+            this.accessToken = accessToken;
+            this.user = user;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -1,21 +1,33 @@
 package com.eunbinlib.api.auth.utils;
 
+import com.eunbinlib.api.auth.data.AuthContext;
 import com.eunbinlib.api.auth.data.MemberSession;
+import com.eunbinlib.api.auth.data.SessionClaims;
 import com.eunbinlib.api.auth.data.UserSession;
 import com.eunbinlib.api.application.domain.repository.user.UserRepository;
 import com.eunbinlib.api.application.domain.user.User;
 import com.eunbinlib.api.application.dto.request.LoginRequest;
 import com.eunbinlib.api.application.dto.response.TokenResponse;
 import com.eunbinlib.api.application.exception.type.ForbiddenAccessException;
+import com.eunbinlib.api.application.exception.type.ServiceUnavailableException;
+import com.eunbinlib.api.auth.exception.type.ForbiddenAuthException;
 import com.eunbinlib.api.auth.exception.type.InvalidLoginInfoException;
 import com.eunbinlib.api.auth.exception.type.UnauthorizedException;
+import com.eunbinlib.api.auth.revocation.TokenRevocationStore;
+import com.eunbinlib.api.auth.usercontext.UserContextRepository;
 import com.eunbinlib.api.application.utils.EncryptUtils;
+import com.eunbinlib.api.application.utils.PasswordHashExecutor;
+import com.eunbinlib.api.application.utils.PasswordHashPolicy;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+
 import static com.eunbinlib.api.auth.data.AuthProperties.USERNAME;
 import static com.eunbinlib.api.auth.data.AuthProperties.USER_TYPE;
 import static com.eunbinlib.api.auth.data.RedisCacheKey.USER_SESSION;
@@ -29,6 +41,19 @@ public class AuthService {
 
     private final UserRepository userRepository;
 
+    private final PasswordHashPolicy passwordHashPolicy;
+
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    private final TokenRevocationStore tokenRevocationStore;
+
+    private final UserContextRepository userContextRepository;
+
+    private final SessionCacheEvictor sessionCacheEvictor;
+
+    @Value("${jwt.stateless-session.enabled:false}")
+    private boolean statelessSession;
+
     public TokenResponse authenticate(LoginRequest loginRequest) {
         String username = loginRequest.getUsername();
         String password = loginRequest.getPassword();
@@ -40,11 +65,38 @@ public class AuthService {
             throw new InvalidLoginInfoException();
         }
 
+        rehashIfNeeded(findUser, password);
+
         return createTokenResponse(findUser);
     }
 
+    /**
+     * 저장된 해시의 cost 가 설정과 다르면 로그인 응답과 별개로 새 cost 로 다시 해시해서 저장한다.
+     * 대기열이 가득 찬 경우에는 다음 로그인으로 미룬다.
+     */
+    private void rehashIfNeeded(User user, String password) {
+        if (!passwordHashPolicy.needsRehash(user)) {
+            return;
+        }
+
+        Long userId = user.getId();
+        String oldPassword = user.getPassword();
+
+        try {
+            passwordHashExecutor.submit(() -> {
+                        userRepository.updatePasswordIfUnchanged(userId, oldPassword, passwordHashPolicy.encrypt(user, password));
+                    })
+                    .exceptionally(e -> {
+                        log.warn("password rehash failed: userId={}", userId, e);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException e) {
+            log.info("password rehash postponed: userId={}", userId);
+        }
+    }
+
     private TokenResponse createTokenResponse(User user) {
-        String accessToken = jwtUtils.createAccessToken(user.getUserType(), user.getUsername());
+        String accessToken = jwtUtils.createAccessToken(user.getUserType(), user.getUsername(), sessionClaims(user));
         String refreshToken = jwtUtils.createRefreshToken(user.getUserType(), user.getUsername());
 
         return TokenResponse.builder()
@@ -53,29 +105,81 @@ public class AuthService {
                 .build();
     }
 
-    public void validateAccessToken(String accessToken) {
-        jwtUtils.validateAccessToken(accessToken);
+    /**
+     * 요청에 담긴 엑세스 토큰을 검증하고, 그 결과를 request attribute 에 저장한다.
+     * 같은 요청 안에서 다시 호출되면 토큰을 다시 파싱하지 않고 저장된 결과를 돌려준다.
+     */
+    public AuthContext resolveAuthContext(HttpServletRequest request) {
+        Object attribute = request.getAttribute(AuthContext.ATTRIBUTE_NAME);
+        if (attribute instanceof AuthContext) {
+            return (AuthContext) attribute;
+        }
+
+        String accessToken = AuthorizationExtractor.extractToken(request);
+        Claims claims = jwtUtils.validateAccessToken(accessToken);
+        validateNotRevoked(claims);
+
+        AuthContext authContext = AuthContext.builder()
+                .accessToken(accessToken)
+                .claims(claims)
+                .build();
+
+        request.setAttribute(AuthContext.ATTRIBUTE_NAME, authContext);
+
+        return authContext;
     }
 
     public String renewAccessToken(String refreshToken) {
         Claims claims = jwtUtils.validateRefreshToken(refreshToken);
+        validateNotRevoked(claims);
 
         String username = claims.get(USERNAME, String.class);
         String userType = claims.get(USER_TYPE, String.class);
 
+        if (statelessSession) {
+            User findUser = findUserByUsername(username);
+            return jwtUtils.createAccessToken(findUser.getUserType(), findUser.getUsername(), sessionClaims(findUser));
+        }
+
         return jwtUtils.createAccessToken(userType, username);
     }
 
-    @Cacheable(key = "#accessToken", value = USER_SESSION)
-    public UserSession getSession(String accessToken) {
-        User findUser = findUserByAccessToken(accessToken);
+    /**
+     * 리프레시 토큰과 현재 요청의 엑세스 토큰을 폐기하고, 캐시된 세션과 유저 정보를 지운다.
+     */
+    public void logout(AuthContext authContext, String refreshToken) {
+        Claims refreshClaims = jwtUtils.validateRefreshToken(refreshToken);
+        if (!authContext.getUsername().equals(refreshClaims.get(USERNAME, String.class))) {
+            throw new ForbiddenAuthException();
+        }
+
+        tokenRevocationStore.revoke(refreshClaims.getId(), refreshClaims.getExpiration());
+        tokenRevocationStore.revoke(authContext.getClaims().getId(), authContext.getClaims().getExpiration());
+
+        userContextRepository.expireUserInfoContext(refreshToken);
+        sessionCacheEvictor.evict(authContext.getUsername());
+    }
+
+    private void validateNotRevoked(Claims claims) {
+        if (tokenRevocationStore.isRevoked(claims.getId())) {
+            throw new UnauthorizedException();
+        }
+    }
+
+    private Map<String, Object> sessionClaims(User user) {
+        return statelessSession ? SessionClaims.of(user) : Map.of();
+    }
+
+    @Cacheable(key = "#authContext.username", value = USER_SESSION)
+    public UserSession getSession(AuthContext authContext) {
+        User findUser = findUserByUsername(authContext.getUsername());
 
         return UserSession.from(findUser);
     }
 
-    @Cacheable(key = "#accessToken", value = USER_SESSION)
-    public UserSession getMemberSession(String accessToken) {
-        User findUser = findUserByAccessToken(accessToken);
+    @Cacheable(key = "#authContext.username", value = USER_SESSION)
+    public UserSession getMemberSession(AuthContext authContext) {
+        User findUser = findUserByUsername(authContext.getUsername());
 
         UserSession userSession = UserSession.from(findUser);
         if (userSession instanceof MemberSession) {
@@ -85,8 +189,7 @@ public class AuthService {
         throw new ForbiddenAccessException();
     }
 
-    private User findUserByAccessToken(String accessToken) {
-        String username = jwtUtils.extractUsername(accessToken);
+    private User findUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(UnauthorizedException::new);
     }
@@ -3,7 +3,6 @@ package com.eunbinlib.api.auth.utils;
 
 import com.eunbinlib.api.auth.exception.type.CustomJwtException;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
 
 import static com.eunbinlib.api.auth.data.AuthProperties.*;
@@ -30,27 +30,39 @@ public class JwtUtils {
 
     private final Long refreshTokenExpirationTime;
 
-    private final JwtParser jwtParser;
+    private final VerifiedClaimsCache verifiedClaimsCache;
+
+    private final RejectedTokenCache rejectedTokenCache;
 
     public JwtUtils(@Value("${jwt.secret-key}") String secretKey,
                     @Value("${jwt.token.access-expiration-time}") Long accessTokenExpirationTime,
-                    @Value("${jwt.token.refresh-expiration-time}") Long refreshTokenExpirationTime
+                    @Value("${jwt.token.refresh-expiration-time}") Long refreshTokenExpirationTime,
+                    VerifiedClaimsCache verifiedClaimsCache,
+                    RejectedTokenCache rejectedTokenCache
     ) {
         this.secretKey = secretKey;
         this.accessTokenExpirationTime = accessTokenExpirationTime;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
-        this.jwtParser = Jwts.parser().setSigningKey(this.secretKey);
+        this.verifiedClaimsCache = verifiedClaimsCache;
+        this.rejectedTokenCache = rejectedTokenCache;
     }
 
     public String createAccessToken(String userType, String username) {
-        return createToken(userType, username, accessTokenExpirationTime, ACCESS_TOKEN);
+        return createAccessToken(userType, username, Map.of());
+    }
+
+    /**
+     * @param sessionClaims 세션을 DB 조회 없이 만들 수 있도록 토큰에 함께 담을 클레임
+     */
+    public String createAccessToken(String userType, String username, Map<String, Object> sessionClaims) {
+        return createToken(userType, username, accessTokenExpirationTime, ACCESS_TOKEN, sessionClaims);
     }
 
     public String createRefreshToken(String userType, String username) {
-        return createToken(userType, username, refreshTokenExpirationTime, REFRESH_TOKEN);
+        return createToken(userType, username, refreshTokenExpirationTime, REFRESH_TOKEN, Map.of());
     }
 
-    private String createToken(String userType, String username, Long tokenExpirationTime, String tokenType) {
+    private String createToken(String userType, String username, Long tokenExpirationTime, String tokenType, Map<String, Object> extraClaims) {
         final Date now = new Date();
         final Date expiration = new Date(now.getTime() + tokenExpirationTime);
 
@@ -61,6 +73,7 @@ public class JwtUtils {
                     .setId(UUID.randomUUID().toString())
                     .signWith(SignatureAlgorithm.HS256, secretKey)
 
+                    .addClaims(extraClaims)
                     .claim(USERNAME, username)
                     .claim(USER_TYPE, userType)
                     .claim(TOKEN_TYPE, tokenType)
@@ -72,33 +85,26 @@ public class JwtUtils {
     }
 
     public Claims validateAccessToken(String accessToken) {
-        try {
-            return jwtParser.require(TOKEN_TYPE, ACCESS_TOKEN)
-                    .parseClaimsJws(accessToken)
-                    .getBody();
-        } catch (Exception e) {
-            throw new CustomJwtException(e);
-        }
+        return verifiedClaimsCache.computeIfAbsent(accessToken, this::parseAccessToken);
+    }
+
+    private Claims parseAccessToken(String accessToken) {
+        return rejectedTokenCache.verify(accessToken, token -> Jwts.parser()
+                .setSigningKey(secretKey)
+                .require(TOKEN_TYPE, ACCESS_TOKEN)
+                .parseClaimsJws(token)
+                .getBody());
     }
 
     public Claims validateRefreshToken(String refreshToken) {
         try {
-            return jwtParser.require(TOKEN_TYPE, REFRESH_TOKEN)
+            return Jwts.parser()
+                    .setSigningKey(secretKey)
+                    .require(TOKEN_TYPE, REFRESH_TOKEN)
                     .parseClaimsJws(refreshToken)
                     .getBody();
         } catch (Exception e) {
             throw new CustomJwtException(e);
         }
     }
-
-    public String extractUsername(String token) {
-        try {
-            return jwtParser
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get(USERNAME, String.class);
-        } catch (Exception e) {
-            throw new CustomJwtException(e);
-        }
-    }
 }
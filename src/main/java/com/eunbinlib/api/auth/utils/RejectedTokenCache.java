@@ -0,0 +1,81 @@
+package com.eunbinlib.api.auth.utils;
+
+import com.eunbinlib.api.auth.data.TokenRejectReason;
+import com.eunbinlib.api.auth.exception.type.CustomJwtException;
+import com.eunbinlib.api.cache.ExpiringCache;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 최근에 검증에 실패한 엑세스 토큰의 다이제스트를 짧은 시간 동안 보관한다.
+ * 같은 토큰이 반복해서 들어오면 서명 검증 없이, 스택 트레이스도 만들지 않고 바로 거부한다.
+ */
+@Component
+public class RejectedTokenCache {
+
+    private final boolean enabled;
+
+    private final long ttlMillis;
+
+    private final ExpiringCache<TokenDigest, TokenRejectReason> cache;
+
+    private final Map<TokenRejectReason, LongAdder> rejectionCounts = new EnumMap<>(TokenRejectReason.class);
+
+    public RejectedTokenCache(@Value("${jwt.rejected-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.rejected-cache.max-entries:10000}") long maxEntries,
+                              @Value("${jwt.rejected-cache.ttl-millis:10000}") long ttlMillis
+    ) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.cache = new ExpiringCache<>(maxEntries);
+        for (TokenRejectReason reason : TokenRejectReason.values()) {
+            rejectionCounts.put(reason, new LongAdder());
+        }
+    }
+
+    public Claims verify(String token, Function<String, Claims> verifier) {
+        TokenDigest digest = enabled ? TokenDigest.of(token) : null;
+
+        if (digest != null) {
+            TokenRejectReason cached = cache.get(digest);
+            if (cached != null) {
+                rejectionCounts.get(cached).increment();
+                throw CustomJwtException.withoutStackTrace();
+            }
+        }
+
+        try {
+            return verifier.apply(token);
+        } catch (Exception e) {
+            TokenRejectReason reason = TokenRejectReason.from(e);
+            rejectionCounts.get(reason).increment();
+            if (digest != null) {
+                cache.put(digest, reason, System.currentTimeMillis() + ttlMillis);
+            }
+
+            throw new CustomJwtException(e);
+        }
+    }
+
+    public long getRejectionCount(TokenRejectReason reason) {
+        return rejectionCounts.get(reason).sum();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+}
@@ -0,0 +1,33 @@
+package com.eunbinlib.api.auth.utils;
+
+import com.eunbinlib.api.application.event.MemberUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static com.eunbinlib.api.auth.data.RedisCacheKey.USER_SESSION;
+
+/**
+ * 유저 세션 캐시를 username 단위로 삭제한다.
+ * 회원 정보 변경은 커밋 이후에 삭제해야 다른 요청이 커밋 전의 값을 다시 캐시하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evict(String username) {
+        Cache cache = cacheManager.getCache(USER_SESSION);
+        if (cache != null) {
+            cache.evict(username);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberUpdated(MemberUpdatedEvent event) {
+        evict(event.getUsername());
+    }
+}
@@ -0,0 +1,65 @@
+package com.eunbinlib.api.auth.utils;
+
+import com.eunbinlib.api.application.exception.type.ForbiddenAccessException;
+import com.eunbinlib.api.auth.data.AuthContext;
+import com.eunbinlib.api.auth.data.MemberSession;
+import com.eunbinlib.api.auth.data.SessionClaims;
+import com.eunbinlib.api.auth.data.UserSession;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엑세스 토큰으로부터 세션을 만든다.
+ * stateless 모드에서는 토큰에 담긴 세션 클레임이 최신 버전이면 DB, Redis 조회 없이 세션을 만들고,
+ * 클레임이 없거나 닉네임이 바뀐 뒤 발급된 토큰이 아니라면 캐시된 세션 조회로 대신한다.
+ */
+@Component
+public class SessionResolver {
+
+    private final boolean stateless;
+
+    private final AuthService authService;
+
+    private final SessionVersionRegistry sessionVersionRegistry;
+
+    public SessionResolver(@Value("${jwt.stateless-session.enabled:false}") boolean stateless,
+                           AuthService authService,
+                           SessionVersionRegistry sessionVersionRegistry
+    ) {
+        this.stateless = stateless;
+        this.authService = authService;
+        this.sessionVersionRegistry = sessionVersionRegistry;
+    }
+
+    public UserSession getSession(AuthContext authContext) {
+        UserSession userSession = fromClaims(authContext.getClaims());
+
+        return userSession != null ? userSession : authService.getSession(authContext);
+    }
+
+    public UserSession getMemberSession(AuthContext authContext) {
+        UserSession userSession = fromClaims(authContext.getClaims());
+        if (userSession == null) {
+            return authService.getMemberSession(authContext);
+        }
+
+        if (userSession instanceof MemberSession) {
+            return userSession;
+        }
+
+        throw new ForbiddenAccessException();
+    }
+
+    private UserSession fromClaims(Claims claims) {
+        if (!stateless || !SessionClaims.isPresent(claims)) {
+            return null;
+        }
+
+        if (!sessionVersionRegistry.isCurrent(SessionClaims.getUserId(claims), SessionClaims.getSessionVersion(claims))) {
+            return null;
+        }
+
+        return SessionClaims.toSession(claims);
+    }
+}
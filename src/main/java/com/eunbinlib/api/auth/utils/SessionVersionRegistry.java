@@ -0,0 +1,142 @@
+package com.eunbinlib.api.auth.utils;
+
+import com.eunbinlib.api.application.event.MemberUpdatedEvent;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import com.eunbinlib.api.cache.ExpiringCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 회원별로 최근에 바뀐 세션 버전을 Redis 에 엑세스 토큰 유효 시간 동안 보관한다.
+ * (그 이후에는 예전 버전이 담긴 토큰이 모두 만료되었으므로 기록할 필요가 없다.)
+ * <p>
+ * 요청마다 Redis 를 읽지 않도록 읽은 값은 노드 메모리에 잠깐만 두고, 다른 노드의 변경은 pub/sub 으로 바로 반영한다.
+ * 알림을 놓치거나 노드가 다시 시작되어도 잠깐 둔 값이 만료되면 Redis 에서 다시 읽는다.
+ * 이 노드에서 바꾼 버전은 Redis 에 쓰지 못했을 수 있으므로 엑세스 토큰 유효 시간 동안 따로 기억한다.
+ */
+@Slf4j
+@Component
+public class SessionVersionRegistry {
+
+    public static final String CHANNEL = "sessionVersion";
+
+    public static final String KEY_PREFIX = "sessionVersion:";
+
+    private static final String DELIMITER = ":";
+
+    /**
+     * Redis 에 기록이 없는 회원. 모든 세션 버전은 0 이상이다.
+     */
+    private static final long NO_RECORD = -1L;
+
+    /**
+     * 더 높은 버전만 쓴다. ARGV[1] 버전, ARGV[2] 유효 시간(ms)
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]))\n" +
+            "if current == nil or current < tonumber(ARGV[1]) then\n" +
+            "  redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])\n" +
+            "  return 1\n" +
+            "end\n" +
+            "return 0",
+            Long.class
+    );
+
+    private final ExpiringCache<Long, Long> recordedVersions;
+
+    private final ExpiringCache<Long, Long> loadedVersions;
+
+    private final long accessTokenExpirationTime;
+
+    private final long lookupCacheMillis;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public SessionVersionRegistry(@Value("${jwt.token.access-expiration-time}") Long accessTokenExpirationTime,
+                                  @Value("${jwt.stateless-session.max-tracked-users:100000}") long maxTrackedUsers,
+                                  @Value("${jwt.stateless-session.lookup-cache-millis:5000}") long lookupCacheMillis,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  CacheInvalidationBus invalidationBus
+    ) {
+        this.recordedVersions = new ExpiringCache<>(maxTrackedUsers);
+        this.loadedVersions = new ExpiringCache<>(maxTrackedUsers);
+        this.accessTokenExpirationTime = accessTokenExpirationTime;
+        this.lookupCacheMillis = lookupCacheMillis;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationBus = invalidationBus;
+
+        invalidationBus.subscribe(CHANNEL, this::onRemoteUpdate);
+    }
+
+    public boolean isCurrent(long userId, long sessionVersion) {
+        Long recordedVersion = recordedVersions.get(userId);
+        if (recordedVersion != null && sessionVersion < recordedVersion) {
+            return false;
+        }
+
+        return sessionVersion >= loadVersion(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberUpdated(MemberUpdatedEvent event) {
+        record(event.getMemberId(), event.getSessionVersion());
+
+        try {
+            stringRedisTemplate.execute(RECORD_SCRIPT, List.of(KEY_PREFIX + event.getMemberId()),
+                    String.valueOf(event.getSessionVersion()), String.valueOf(accessTokenExpirationTime));
+        } catch (Exception e) {
+            log.warn("session version save failed: memberId={}", event.getMemberId(), e);
+        }
+
+        invalidationBus.publishEvict(CHANNEL, event.getMemberId() + DELIMITER + event.getSessionVersion());
+    }
+
+    synchronized void record(long userId, long sessionVersion) {
+        Long recordedVersion = recordedVersions.get(userId);
+        if (recordedVersion == null || recordedVersion < sessionVersion) {
+            recordedVersions.put(userId, sessionVersion, System.currentTimeMillis() + accessTokenExpirationTime);
+        }
+    }
+
+    private long loadVersion(long userId) {
+        Long loadedVersion = loadedVersions.get(userId);
+        if (loadedVersion != null) {
+            return loadedVersion;
+        }
+
+        long version = NO_RECORD;
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (value != null) {
+                version = Long.parseLong(value);
+            }
+        } catch (Exception e) {
+            log.warn("session version lookup failed: userId={}", userId, e);
+        }
+
+        loadedVersions.put(userId, version, System.currentTimeMillis() + lookupCacheMillis);
+        return version;
+    }
+
+    private void onRemoteUpdate(String key) {
+        if (key == null) {
+            return;
+        }
+
+        String[] parts = key.split(DELIMITER);
+        try {
+            record(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("invalid session version message: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.eunbinlib.api.auth.utils;
+
+import lombok.EqualsAndHashCode;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 토큰 문자열 대신 메모리 캐시의 키로 사용하는 SHA-256 다이제스트.
+ * 수백 바이트짜리 JWT 문자열을 32바이트 값으로 줄여서 보관한다.
+ */
+@EqualsAndHashCode
+public final class TokenDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final ThreadLocal<MessageDigest> MESSAGE_DIGEST = ThreadLocal.withInitial(TokenDigest::newMessageDigest);
+
+    public static final int BYTES = 32;
+
+    private final long word0;
+
+    private final long word1;
+
+    private final long word2;
+
+    private final long word3;
+
+    private TokenDigest(long word0, long word1, long word2, long word3) {
+        this.word0 = word0;
+        this.word1 = word1;
+        this.word2 = word2;
+        this.word3 = word3;
+    }
+
+    public static TokenDigest of(String token) {
+        ByteBuffer digest = ByteBuffer.wrap(MESSAGE_DIGEST.get().digest(token.getBytes(UTF_8)));
+
+        return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.eunbinlib.api.auth.utils;
+
+import com.eunbinlib.api.cache.ExpiringCache;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 통과한 엑세스 토큰의 클레임을 토큰 만료 시각까지 보관한다.
+ * 키는 토큰의 다이제스트이고, 검증에 실패한 토큰은 예외가 전파되므로 저장되지 않는다.
+ */
+@Slf4j
+@Component
+public class VerifiedClaimsCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 160L;
+
+    private static final long CLAIM_OVERHEAD_BYTES = 80L;
+
+    private final boolean enabled;
+
+    private final ExpiringCache<TokenDigest, Claims> cache;
+
+    public VerifiedClaimsCache(@Value("${jwt.claims-cache.enabled:true}") boolean enabled,
+                               @Value("${jwt.claims-cache.max-entries:10000}") long maxEntries,
+                               @Value("${jwt.claims-cache.max-bytes:8388608}") long maxBytes
+    ) {
+        this.enabled = enabled;
+        this.cache = new ExpiringCache<>(maxEntries, maxBytes, VerifiedClaimsCache::estimateBytes);
+    }
+
+    public Claims computeIfAbsent(String token, Function<String, Claims> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+
+        Claims cached = cache.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = verifier.apply(token);
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(digest, claims, expiration.getTime());
+        }
+
+        return claims;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public long getEstimatedBytes() {
+        return cache.weight();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    private static long estimateBytes(TokenDigest digest, Claims claims) {
+        long bytes = ENTRY_OVERHEAD_BYTES + TokenDigest.BYTES;
+        for (Map.Entry<String, Object> claim : claims.entrySet()) {
+            bytes += CLAIM_OVERHEAD_BYTES
+                    + 2L * claim.getKey().length()
+                    + 2L * String.valueOf(claim.getValue()).length();
+        }
+
+        return bytes;
+    }
+}
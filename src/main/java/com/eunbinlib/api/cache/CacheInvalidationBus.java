@@ -0,0 +1,87 @@
+package com.eunbinlib.api.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 노드마다 가지고 있는 로컬 캐시를 Redis pub/sub 으로 함께 무효화한다.
+ * 메시지는 "발행 노드|캐시 이름|K키" 또는 "발행 노드|캐시 이름|C"(전체 삭제) 형태이고, 자신이 발행한 메시지는 무시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String TOPIC = "eunbinlib:cache-invalidation";
+
+    private static final String DELIMITER = "|";
+
+    private static final Pattern DELIMITER_PATTERN = Pattern.compile(Pattern.quote(DELIMITER));
+
+    private static final String KEY_PREFIX = "K";
+
+    private static final String CLEAR = "C";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * @param onInvalidate 다른 노드에서 무효화한 키를 전달 받는다. 전체 삭제인 경우 null 이 전달된다.
+     */
+    public void subscribe(String cacheName, Consumer<String> onInvalidate) {
+        subscribers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>())
+                .add(onInvalidate);
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, KEY_PREFIX + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, CLEAR);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = DELIMITER_PATTERN.split(new String(message.getBody(), UTF_8), 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        List<Consumer<String>> handlers = subscribers.get(parts[1]);
+        if (handlers == null) {
+            return;
+        }
+
+        String key = parts[2].startsWith(KEY_PREFIX) ? parts[2].substring(KEY_PREFIX.length()) : null;
+        for (Consumer<String> handler : handlers) {
+            handler.accept(key);
+        }
+    }
+
+    private void publish(String cacheName, String payload) {
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC, String.join(DELIMITER, nodeId, cacheName, payload));
+        } catch (Exception e) {
+            // NOTE: 발행에 실패해도 다른 노드의 로컬 캐시는 TTL 이 지나면 사라진다.
+            log.warn("cache invalidation publish failed: cache={}", cacheName, e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.eunbinlib.api.cache;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * 항목마다 만료 시각을 가지는 메모리 캐시.
+ * 조회는 락 없이 동작하고, 저장/삭제만 하나의 모니터로 직렬화한다.
+ * 항목 수나 가중치(추정 바이트 수)가 상한을 넘으면 만료 시각이 가장 가까운 항목부터 제거한다.
+ */
+public class ExpiringCache<K, V> {
+
+    private static final Comparator<Node<?, ?>> EXPIRY_ORDER = Comparator
+            .<Node<?, ?>>comparingLong(node -> node.expireAt)
+            .thenComparingLong(node -> node.sequence);
+
+    private final Map<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+
+    private final TreeSet<Node<K, V>> expiryOrder = new TreeSet<>(EXPIRY_ORDER);
+
+    private final long maxEntries;
+
+    private final long maxWeight;
+
+    private final ToLongBiFunction<K, V> weigher;
+
+    private final LongSupplier clock;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private volatile long weight;
+
+    private long sequence;
+
+    public ExpiringCache(long maxEntries) {
+        this(maxEntries, Long.MAX_VALUE, (key, value) -> 0L);
+    }
+
+    public ExpiringCache(long maxEntries, long maxWeight, ToLongBiFunction<K, V> weigher) {
+        this(maxEntries, maxWeight, weigher, System::currentTimeMillis);
+    }
+
+    public ExpiringCache(long maxEntries, long maxWeight, ToLongBiFunction<K, V> weigher, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.clock = clock;
+    }
+
+    public V get(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+
+        if (node.expireAt <= clock.getAsLong()) {
+            evict(node);
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * @param expireAt 항목이 만료되는 시각 (epoch millis). 이미 지난 시각이면 저장하지 않는다.
+     */
+    public synchronized void put(K key, V value, long expireAt) {
+        long now = clock.getAsLong();
+        if (expireAt <= now) {
+            return;
+        }
+
+        Node<K, V> node = new Node<>(key, value, expireAt, weigher.applyAsLong(key, value), ++sequence);
+        Node<K, V> prev = nodes.put(key, node);
+        if (prev != null) {
+            unlink(prev);
+        }
+        link(node);
+
+        evictExpired(now);
+        evictOverflow();
+    }
+
+    public synchronized V remove(K key) {
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+
+        unlink(node);
+        return node.value;
+    }
+
+    public synchronized void clear() {
+        nodes.clear();
+        expiryOrder.clear();
+        weight = 0;
+    }
+
+    public long size() {
+        return nodes.size();
+    }
+
+    public long weight() {
+        return weight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private synchronized void evict(Node<K, V> node) {
+        if (nodes.remove(node.key, node)) {
+            unlink(node);
+            evictionCount.increment();
+        }
+    }
+
+    private void evictExpired(long now) {
+        while (!expiryOrder.isEmpty() && expiryOrder.first().expireAt <= now) {
+            evict(expiryOrder.first());
+        }
+    }
+
+    private void evictOverflow() {
+        while (nodes.size() > maxEntries || weight > maxWeight) {
+            evict(expiryOrder.first());
+        }
+    }
+
+    private void link(Node<K, V> node) {
+        expiryOrder.add(node);
+        weight += node.weight;
+    }
+
+    private void unlink(Node<K, V> node) {
+        expiryOrder.remove(node);
+        weight -= node.weight;
+    }
+
+    private static class Node<K, V> {
+
+        private final K key;
+
+        private final V value;
+
+        private final long expireAt;
+
+        private final long weight;
+
+        private final long sequence;
+
+        private Node(K key, V value, long expireAt, long weight, long sequence) {
+            this.key = key;
+            this.value = value;
+            this.expireAt = expireAt;
+            this.weight = weight;
+            this.sequence = sequence;
+        }
+    }
+}
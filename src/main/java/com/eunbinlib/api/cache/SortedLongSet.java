@@ -0,0 +1,63 @@
+package com.eunbinlib.api.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 정렬된 long 배열 하나로 표현하는 불변 집합.
+ * 박싱된 Long 으로 이루어진 HashSet 보다 원소당 메모리가 훨씬 작고, 포함 여부는 이진 탐색으로 확인한다.
+ */
+public final class SortedLongSet {
+
+    private static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+    private static final long OBJECT_OVERHEAD_BYTES = 32L;
+
+    private final long[] values;
+
+    private SortedLongSet(long[] values) {
+        this.values = values;
+    }
+
+    public static SortedLongSet empty() {
+        return EMPTY;
+    }
+
+    public static SortedLongSet of(Collection<Long> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sorted = values.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+
+        return new SortedLongSet(sorted);
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public List<Long> toList() {
+        return Arrays.stream(values)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    public long estimateBytes() {
+        return OBJECT_OVERHEAD_BYTES + (long) Long.BYTES * values.length;
+    }
+}
@@ -0,0 +1,135 @@
+package com.eunbinlib.api.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 노드 로컬 캐시(L1)를 Redis 캐시(L2) 앞에 둔 캐시.
+ * 값이 바뀌거나 삭제되면 다른 노드의 L1 을 pub/sub 으로 무효화한다.
+ * 메시지가 유실되더라도 L1 항목은 localTtlMillis 가 지나면 만료되므로, 오래된 값이 보이는 시간은 그 이하로 제한된다.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache remoteCache;
+
+    private final ExpiringCache<String, ValueWrapper> localCache;
+
+    private final long localTtlMillis;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoTierCache(Cache remoteCache, long maxLocalEntries, long localTtlMillis, CacheInvalidationBus invalidationBus) {
+        this.remoteCache = remoteCache;
+        this.localCache = new ExpiringCache<>(maxLocalEntries);
+        this.localTtlMillis = localTtlMillis;
+        this.invalidationBus = invalidationBus;
+
+        invalidationBus.subscribe(getName(), this::invalidateLocal);
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+
+        ValueWrapper local = localCache.get(localKey);
+        if (local != null) {
+            return local;
+        }
+
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote != null) {
+            putLocal(localKey, remote);
+        }
+
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+
+        remoteCache.put(key, value);
+        putLocal(localKey, new SimpleValueWrapper(value));
+        invalidationBus.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+
+        remoteCache.evict(key);
+        localCache.remove(localKey);
+        invalidationBus.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.clear();
+        invalidationBus.publishClear(getName());
+    }
+
+    public long getLocalSize() {
+        return localCache.size();
+    }
+
+    private void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            localCache.clear();
+        } else {
+            localCache.remove(localKey);
+        }
+    }
+
+    private void putLocal(String localKey, ValueWrapper wrapper) {
+        localCache.put(localKey, wrapper, System.currentTimeMillis() + localTtlMillis);
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,55 @@
+package com.eunbinlib.api.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지정한 이름의 캐시만 {@link TwoTierCache} 로 감싸고, 나머지는 원격 캐시 매니저에 그대로 위임한다.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+
+    private final Set<String> twoTierCacheNames;
+
+    private final long maxLocalEntries;
+
+    private final long localTtlMillis;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, Set<String> twoTierCacheNames,
+                               long maxLocalEntries, long localTtlMillis, CacheInvalidationBus invalidationBus) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.twoTierCacheNames = twoTierCacheNames;
+        this.maxLocalEntries = maxLocalEntries;
+        this.localTtlMillis = localTtlMillis;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private Cache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null || !twoTierCacheNames.contains(name)) {
+            return remoteCache;
+        }
+
+        return new TwoTierCache(remoteCache, maxLocalEntries, localTtlMillis, invalidationBus);
+    }
+}
@@ -4,8 +4,8 @@ import com.eunbinlib.api.auth.argumentresolver.MemberSessionArgumentResolver;
 import com.eunbinlib.api.auth.argumentresolver.UserSessionArgumentResolver;
 import com.eunbinlib.api.auth.interceptor.JwtAuthInterceptor;
 import com.eunbinlib.api.auth.interceptor.JwtRefreshInterceptor;
-import com.eunbinlib.api.auth.interceptor.LoginAuthInterceptor;
 import com.eunbinlib.api.auth.utils.AuthService;
+import com.eunbinlib.api.auth.utils.SessionResolver;
 import com.eunbinlib.api.auth.exception.handler.AuthHandlerExceptionResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +18,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import java.util.List;
 
 import static com.eunbinlib.api.auth.interceptor.JwtRefreshInterceptor.TOKEN_REFRESH_URL;
-import static com.eunbinlib.api.auth.interceptor.LoginAuthInterceptor.LOGIN_URL;
+import static com.eunbinlib.api.application.controller.AuthController.LOGIN_URL;
 import static com.eunbinlib.api.application.controller.UserController.JOIN_GUEST_URL;
 import static com.eunbinlib.api.application.controller.UserController.JOIN_MEMBER_URL;
 
@@ -30,6 +30,8 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final AuthService authService;
 
+    private final SessionResolver sessionResolver;
+
     private final ObjectMapper objectMapper;
 
     @Override
@@ -40,9 +42,6 @@ public class WebConfig implements WebMvcConfigurer {
 
         registry.addInterceptor(new JwtRefreshInterceptor(authService, objectMapper))
                 .addPathPatterns(TOKEN_REFRESH_URL);
-
-        registry.addInterceptor(new LoginAuthInterceptor(authService, objectMapper))
-                .addPathPatterns(LOGIN_URL);
     }
 
     @Override
@@ -52,7 +51,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new UserSessionArgumentResolver(authService));
-        resolvers.add(new MemberSessionArgumentResolver(authService));
+        resolvers.add(new UserSessionArgumentResolver(authService, sessionResolver));
+        resolvers.add(new MemberSessionArgumentResolver(authService, sessionResolver));
     }
 }
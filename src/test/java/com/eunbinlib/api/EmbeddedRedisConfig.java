@@ -0,0 +1,36 @@
+package com.eunbinlib.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import redis.embedded.RedisServer;
+
+/**
+ * 테스트 JVM 에서 임베디드 Redis 를 한 번만 띄운다.
+ * 포트가 이미 사용 중이면 (로컬 Redis 가 떠 있는 경우) 그 서버를 그대로 사용한다.
+ */
+@Slf4j
+@Configuration
+public class EmbeddedRedisConfig {
+
+    private static RedisServer redisServer;
+
+    public EmbeddedRedisConfig(@Value("${spring.redis.port:6379}") int redisPort) {
+        startOnce(redisPort);
+    }
+
+    private static synchronized void startOnce(int redisPort) {
+        if (redisServer != null) {
+            return;
+        }
+
+        try {
+            RedisServer server = new RedisServer(redisPort);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            redisServer = server;
+        } catch (Exception e) {
+            log.warn("embedded redis not started: port={}", redisPort, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.auth.utils.JwtUtils;
+import com.eunbinlib.api.controller.ControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import static com.eunbinlib.api.auth.data.AuthProperties.AUTHORIZATION_HEADER;
+import static com.eunbinlib.api.auth.data.AuthProperties.TOKEN_PREFIX;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthContextTest extends ControllerTest {
+
+    @SpyBean
+    private JwtUtils jwtUtilsSpy;
+
+    @Test
+    @DisplayName("회원 세션이 필요한 요청에서 엑세스 토큰은 한 번만 검증된다")
+    void parseAccessTokenOnceForMemberSession() throws Exception {
+        // given
+        loginMember();
+        clearInvocations(jwtUtilsSpy);
+
+        // when
+        mockMvc.perform(get("/api/users/me")
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        verify(jwtUtilsSpy, times(1)).validateAccessToken(anyString());
+        verifyNoMoreInteractions(jwtUtilsSpy);
+    }
+
+    @Test
+    @DisplayName("유저 세션이 필요한 요청에서 엑세스 토큰은 한 번만 검증된다")
+    void parseAccessTokenOnceForUserSession() throws Exception {
+        // given
+        loginGuest();
+        clearInvocations(jwtUtilsSpy);
+
+        // when
+        mockMvc.perform(get("/api/posts")
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + guestAccessToken)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        verify(jwtUtilsSpy, times(1)).validateAccessToken(anyString());
+        verifyNoMoreInteractions(jwtUtilsSpy);
+    }
+}
@@ -18,14 +18,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static com.eunbinlib.api.auth.interceptor.JwtRefreshInterceptor.TOKEN_REFRESH_URL;
-import static com.eunbinlib.api.auth.interceptor.LoginAuthInterceptor.LOGIN_URL;
+import static com.eunbinlib.api.application.controller.AuthController.LOGIN_URL;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -80,10 +83,14 @@ public class AuthTest {
         String json = objectMapper.writeValueAsString(loginRequest);
 
         // expected
-        mockMvc.perform(post(LOGIN_URL)
+        MvcResult mvcResult = mockMvc.perform(post(LOGIN_URL)
                         .contentType(APPLICATION_JSON)
                         .accept(APPLICATION_JSON)
                         .content(json))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accessToken").exists())
                 .andExpect(jsonPath("$.refreshToken").exists())
@@ -98,10 +105,14 @@ public class AuthTest {
         String json = objectMapper.writeValueAsString(loginRequest);
 
         // expected
-        mockMvc.perform(post(LOGIN_URL)
+        MvcResult mvcResult = mockMvc.perform(post(LOGIN_URL)
                         .contentType(APPLICATION_JSON)
                         .accept(APPLICATION_JSON)
                         .content(json))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isUnauthorized())
                 .andDo(print());
     }
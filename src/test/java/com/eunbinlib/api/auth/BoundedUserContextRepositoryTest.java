@@ -0,0 +1,135 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.application.domain.user.Guest;
+import com.eunbinlib.api.application.domain.user.User;
+import com.eunbinlib.api.auth.usercontext.BoundedUserContextRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedUserContextRepositoryTest {
+
+    private static final long REFRESH_EXPIRATION = 10_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    private final User user = Guest.builder()
+            .username("username")
+            .password("password")
+            .build();
+
+    @Test
+    @DisplayName("리프레시 토큰 유효 시간이 지나면 유저 정보가 제거된다")
+    void expireWithRefreshToken() {
+        // given
+        BoundedUserContextRepository repository = createRepository(10L);
+        repository.saveUserInfo("access", "refresh", user);
+
+        // when
+        now.addAndGet(REFRESH_EXPIRATION);
+
+        // then
+        assertThat(repository.findUserInfoByAccessToken("access")).isNull();
+    }
+
+    @Test
+    @DisplayName("저장 개수가 상한을 넘으면 가장 먼저 만료되는 항목부터 제거된다")
+    void evictOverCapacity() {
+        // given
+        BoundedUserContextRepository repository = createRepository(2L);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            repository.saveUserInfo("access" + i, "refresh" + i, user);
+            now.incrementAndGet();
+        }
+
+        // then
+        assertThat(repository.size()).isEqualTo(2L);
+        assertThat(repository.getEvictionCount()).isEqualTo(2L);
+        assertThat(repository.getEstimatedBytes()).isPositive();
+        assertThat(repository.findUserInfoByAccessToken("access0")).isNull();
+        assertThat(repository.findUserInfoByAccessToken("access2")).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("엑세스 토큰을 갱신하면 이전 토큰으로는 조회되지 않는다")
+    void rotateAccessToken() {
+        // given
+        BoundedUserContextRepository repository = createRepository(10L);
+        repository.saveUserInfo("access", "refresh", user);
+
+        // when
+        repository.updateAccessToken("newAccess", "refresh");
+
+        // then
+        assertThat(repository.findUserInfoByAccessToken("access")).isNull();
+        assertThat(repository.findUserInfoByAccessToken("newAccess")).isSameAs(user);
+        assertThat(repository.size()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("동시에 엑세스 토큰을 갱신해도 마지막으로 갱신된 토큰 하나만 남는다")
+    void rotateAccessTokenConcurrently() throws Exception {
+        // given
+        BoundedUserContextRepository repository = createRepository(10L);
+        repository.saveUserInfo("access", "refresh", user);
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            String newAccessToken = "access" + i;
+            executorService.submit(() -> {
+                start.await();
+                repository.updateAccessToken(newAccessToken, "refresh");
+                return null;
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        List<String> resolved = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            if (repository.findUserInfoByAccessToken("access" + i) != null) {
+                resolved.add("access" + i);
+            }
+        }
+        assertThat(resolved).hasSize(1);
+        assertThat(repository.findUserInfoByAccessToken("access")).isNull();
+        assertThat(repository.size()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로 유저 정보를 만료시킨다")
+    void expireUserInfoContext() {
+        // given
+        BoundedUserContextRepository repository = createRepository(10L);
+        repository.saveUserInfo("access", "refresh", user);
+
+        // when
+        repository.expireUserInfoContext("refresh");
+
+        // then
+        assertThat(repository.findUserInfoByAccessToken("access")).isNull();
+        assertThat(repository.size()).isZero();
+        assertThat(repository.getEstimatedBytes()).isZero();
+    }
+
+    private BoundedUserContextRepository createRepository(long maxEntries) {
+        return new BoundedUserContextRepository(maxEntries, Long.MAX_VALUE, REFRESH_EXPIRATION, now::get);
+    }
+}
@@ -0,0 +1,95 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.auth.exception.type.TooManyLoginAttemptsException;
+import com.eunbinlib.api.auth.ratelimit.LoginRateLimiter;
+import com.eunbinlib.api.auth.ratelimit.MemoryLoginAttemptStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class LoginRateLimiterTest {
+
+    private static final String ADDRESS = "127.0.0.1";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private final MemoryLoginAttemptStore store = new MemoryLoginAttemptStore(1_000L, 4, now::get);
+
+    /**
+     * 주소: 버킷 100, username: 버킷 5 / 분당 5회 충전, 연속 3회 실패부터 1초, 2초, 4초... 차단
+     */
+    private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(store, 100L, 100L, 5L, 5L, 3, 1_000L, 60_000L);
+
+    @Test
+    @DisplayName("username 버킷을 다 쓰면 충전될 때까지 거절한다")
+    void rejectWhenBucketIsEmpty() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginRateLimiter.checkAllowed("username", ADDRESS);
+        }
+
+        // expected
+        assertThatThrownBy(() -> loginRateLimiter.checkAllowed("username", ADDRESS))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+        assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("otherUsername", ADDRESS));
+
+        now.addAndGet(12_000L);
+        assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("username", ADDRESS));
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하면 차단 시간이 두 배씩 늘어난다")
+    void backoffAfterConsecutiveFailures() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.onFailure("username", ADDRESS);
+        }
+
+        // expected
+        assertThatThrownBy(() -> loginRateLimiter.checkAllowed("username", ADDRESS))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+
+        now.addAndGet(1_000L);
+        assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("username", ADDRESS));
+
+        loginRateLimiter.onFailure("username", ADDRESS);
+        now.addAndGet(1_999L);
+        assertThatThrownBy(() -> loginRateLimiter.checkAllowed("username", ADDRESS))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+
+        now.addAndGet(1L);
+        assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("username", ADDRESS));
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하면 username 의 실패 기록이 초기화된다")
+    void resetFailuresOnSuccess() {
+        // given
+        loginRateLimiter.onFailure("username", ADDRESS);
+        loginRateLimiter.onFailure("username", ADDRESS);
+
+        // when
+        loginRateLimiter.onSuccess("username");
+        loginRateLimiter.onFailure("username", ADDRESS);
+
+        // then
+        assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("username", ADDRESS));
+    }
+
+    @Test
+    @DisplayName("저장되는 상태의 개수는 상한을 넘지 않는다")
+    void boundedStore() {
+        // when
+        for (int i = 0; i < 5_000; i++) {
+            loginRateLimiter.checkAllowed("username" + i, "10.0.0." + i);
+        }
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(1_000L);
+    }
+}
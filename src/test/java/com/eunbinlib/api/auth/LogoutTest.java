@@ -0,0 +1,74 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.application.dto.request.LogoutRequest;
+import com.eunbinlib.api.controller.ControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.eunbinlib.api.application.controller.AuthController.LOGOUT_URL;
+import static com.eunbinlib.api.auth.data.AuthProperties.AUTHORIZATION_HEADER;
+import static com.eunbinlib.api.auth.data.AuthProperties.TOKEN_PREFIX;
+import static com.eunbinlib.api.auth.interceptor.JwtRefreshInterceptor.TOKEN_REFRESH_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class LogoutTest extends ControllerTest {
+
+    @Test
+    @DisplayName("로그아웃하면 엑세스 토큰과 리프레시 토큰을 더 이상 사용할 수 없다")
+    void logout() throws Exception {
+        // given
+        loginMember();
+        String json = objectMapper.writeValueAsString(new LogoutRequest(memberRefreshToken));
+
+        // when
+        mockMvc.perform(post(LOGOUT_URL)
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                        .contentType(APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        mockMvc.perform(get("/api/users/me")
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isUnauthorized())
+                .andDo(print());
+
+        mockMvc.perform(post(TOKEN_REFRESH_URL)
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberRefreshToken)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isUnauthorized())
+                .andDo(print());
+
+        assertThat(userContextRepository.findUserInfoByAccessToken(memberAccessToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 유저의 리프레시 토큰으로는 로그아웃할 수 없다")
+    void logoutWithOthersRefreshToken() throws Exception {
+        // given
+        loginMember();
+        loginGuest();
+        String json = objectMapper.writeValueAsString(new LogoutRequest(guestRefreshToken));
+
+        // expected
+        mockMvc.perform(post(LOGOUT_URL)
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                        .contentType(APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isForbidden())
+                .andDo(print());
+
+        mockMvc.perform(get("/api/users/me")
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+}
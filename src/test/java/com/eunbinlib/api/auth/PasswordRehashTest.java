@@ -0,0 +1,70 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.LoginRequest;
+import com.eunbinlib.api.application.utils.EncryptUtils;
+import com.eunbinlib.api.auth.utils.AuthService;
+import com.eunbinlib.api.service.ServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "password-hash.log-rounds.member=5")
+class PasswordRehashTest extends ServiceTest {
+
+    private static final long AWAIT_MILLIS = 5_000L;
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    @DisplayName("로그인에 성공하면 설정과 다른 cost 의 해시를 새 cost 로 다시 저장한다")
+    void rehashOnLogin() throws Exception {
+        // given
+        Member member = userRepository.save(Member.builder()
+                .username("rehashUser")
+                .password(EncryptUtils.encrypt("password", 4))
+                .nickname("rehash")
+                .build());
+
+        // when
+        authService.authenticate(new LoginRequest("rehashUser", "password"));
+
+        // then
+        String rehashed = awaitPasswordChange(member.getId(), member.getPassword());
+        assertThat(EncryptUtils.getLogRounds(rehashed)).isEqualTo(5);
+        assertThat(EncryptUtils.isNotMatch("password", rehashed)).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정과 같은 cost 의 해시는 다시 저장하지 않는다")
+    void keepHashWithTargetCost() {
+        // given
+        Member member = userRepository.save(Member.builder()
+                .username("keepUser")
+                .password(EncryptUtils.encrypt("password", 5))
+                .nickname("keep")
+                .build());
+
+        // when
+        authService.authenticate(new LoginRequest("keepUser", "password"));
+
+        // then
+        assertThat(userRepository.findById(member.getId()).orElseThrow().getPassword())
+                .isEqualTo(member.getPassword());
+    }
+
+    private String awaitPasswordChange(Long userId, String oldPassword) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        String password = oldPassword;
+        while (password.equals(oldPassword) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+            password = userRepository.findById(userId).orElseThrow().getPassword();
+        }
+
+        return password;
+    }
+}
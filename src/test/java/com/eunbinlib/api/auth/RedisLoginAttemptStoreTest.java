@@ -0,0 +1,70 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.auth.ratelimit.RateLimitPolicy;
+import com.eunbinlib.api.auth.ratelimit.RedisLoginAttemptStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisLoginAttemptStoreTest {
+
+    private static final String KEY = "username:redisLoginAttemptStoreTest";
+
+    private final RateLimitPolicy policy = RateLimitPolicy.builder()
+            .capacity(2L)
+            .refillPerMinute(1L)
+            .failureThreshold(1)
+            .baseBackoffMillis(60_000L)
+            .maxBackoffMillis(600_000L)
+            .build();
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete("loginAttempt:" + KEY);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 Redis 에 저장된 같은 버킷을 사용한다")
+    void shareBucketAcrossNodes() {
+        // given
+        RedisLoginAttemptStore nodeA = new RedisLoginAttemptStore(stringRedisTemplate);
+        RedisLoginAttemptStore nodeB = new RedisLoginAttemptStore(stringRedisTemplate);
+
+        // when
+        long first = nodeA.tryAcquire(KEY, policy);
+        long second = nodeB.tryAcquire(KEY, policy);
+        long third = nodeA.tryAcquire(KEY, policy);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isPositive();
+    }
+
+    @Test
+    @DisplayName("실패가 기준 횟수에 도달하면 차단되고, 성공하면 차단이 풀린다")
+    void blockAfterFailure() {
+        // given
+        RedisLoginAttemptStore store = new RedisLoginAttemptStore(stringRedisTemplate);
+
+        // when
+        store.recordFailure(KEY, policy);
+        long blocked = store.tryAcquire(KEY, policy);
+
+        store.recordSuccess(KEY, policy);
+        long afterSuccess = store.tryAcquire(KEY, policy);
+
+        // then
+        assertThat(blocked).isGreaterThan(50_000L);
+        assertThat(afterSuccess).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.auth.exception.type.CustomJwtException;
+import com.eunbinlib.api.auth.utils.JwtUtils;
+import com.eunbinlib.api.auth.utils.RejectedTokenCache;
+import com.eunbinlib.api.auth.utils.VerifiedClaimsCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.eunbinlib.api.auth.data.TokenRejectReason.BAD_SIGNATURE;
+import static com.eunbinlib.api.auth.data.TokenRejectReason.EXPIRED;
+import static com.eunbinlib.api.auth.data.TokenRejectReason.WRONG_TOKEN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class RejectedTokenCacheTest {
+
+    private static final String SECRET_KEY = "cmVqZWN0ZWRUb2tlbkNhY2hlVGVzdFNlY3JldEtleQ==";
+
+    private static final long ACCESS_EXPIRATION = 60_000L;
+
+    private static final long REFRESH_EXPIRATION = 120_000L;
+
+    @Test
+    @DisplayName("한 번 거부된 토큰은 서명 검증 없이 스택 트레이스 없는 예외로 거부된다")
+    void rejectRepeatedTokenFromCache() {
+        // given
+        RejectedTokenCache cache = new RejectedTokenCache(true, 100, 10_000);
+        JwtUtils jwtUtils = newJwtUtils(ACCESS_EXPIRATION, cache);
+        String forgedToken = jwtUtils.createAccessToken("member", "username") + "forged";
+
+        // when
+        CustomJwtException first = catchThrowableOfType(() -> jwtUtils.validateAccessToken(forgedToken), CustomJwtException.class);
+        CustomJwtException second = catchThrowableOfType(() -> jwtUtils.validateAccessToken(forgedToken), CustomJwtException.class);
+
+        // then
+        assertThat(first.getCause()).isNotNull();
+        assertThat(second.getCause()).isNull();
+        assertThat(second.getStackTrace()).isEmpty();
+        assertThat(cache.size()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+        assertThat(cache.getRejectionCount(BAD_SIGNATURE)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("거부 사유별로 횟수를 센다")
+    void countRejectionsByReason() {
+        // given
+        RejectedTokenCache cache = new RejectedTokenCache(true, 100, 10_000);
+        JwtUtils jwtUtils = newJwtUtils(ACCESS_EXPIRATION, cache);
+        JwtUtils expiredJwtUtils = newJwtUtils(-1_000L, cache);
+        String refreshToken = jwtUtils.createRefreshToken("member", "username");
+        String expiredToken = expiredJwtUtils.createAccessToken("member", "username");
+
+        // when
+        catchThrowableOfType(() -> jwtUtils.validateAccessToken(refreshToken), CustomJwtException.class);
+        catchThrowableOfType(() -> jwtUtils.validateAccessToken(expiredToken), CustomJwtException.class);
+
+        // then
+        assertThat(cache.getRejectionCount(WRONG_TOKEN_TYPE)).isEqualTo(1L);
+        assertThat(cache.getRejectionCount(EXPIRED)).isEqualTo(1L);
+        assertThat(cache.getRejectionCount(BAD_SIGNATURE)).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 거부된 토큰도 매번 검증하지만 사유는 센다")
+    void disabledCache() {
+        // given
+        RejectedTokenCache cache = new RejectedTokenCache(false, 100, 10_000);
+        JwtUtils jwtUtils = newJwtUtils(ACCESS_EXPIRATION, cache);
+        String forgedToken = jwtUtils.createAccessToken("member", "username") + "forged";
+
+        // when
+        catchThrowableOfType(() -> jwtUtils.validateAccessToken(forgedToken), CustomJwtException.class);
+        CustomJwtException second = catchThrowableOfType(() -> jwtUtils.validateAccessToken(forgedToken), CustomJwtException.class);
+
+        // then
+        assertThat(second.getCause()).isNotNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getRejectionCount(BAD_SIGNATURE)).isEqualTo(2L);
+    }
+
+    private JwtUtils newJwtUtils(long accessExpiration, RejectedTokenCache cache) {
+        return new JwtUtils(SECRET_KEY, accessExpiration, REFRESH_EXPIRATION,
+                new VerifiedClaimsCache(true, 100, 1_000_000), cache);
+    }
+}
@@ -0,0 +1,112 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.application.dto.request.MeUpdateRequest;
+import com.eunbinlib.api.application.service.UserService;
+import com.eunbinlib.api.auth.data.SessionClaims;
+import com.eunbinlib.api.auth.utils.AuthService;
+import com.eunbinlib.api.auth.utils.SessionVersionRegistry;
+import com.eunbinlib.api.controller.ControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.eunbinlib.api.auth.data.AuthProperties.AUTHORIZATION_HEADER;
+import static com.eunbinlib.api.auth.data.AuthProperties.TOKEN_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "jwt.stateless-session.enabled=true")
+class StatelessSessionTest extends ControllerTest {
+
+    @SpyBean
+    private AuthService authServiceSpy;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SessionVersionRegistry sessionVersionRegistry;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    @DisplayName("세션 버전 컬럼은 기본값이 있어서 회원이 이미 있는 테이블에도 추가할 수 있다")
+    void sessionVersionColumnHasDefault() {
+        // when
+        String columnDefault = jdbcTemplate.queryForObject("select column_default from information_schema.columns " +
+                "where table_name = 'MEMBER' and column_name = 'SESSION_VERSION'", String.class);
+
+        // then
+        assertThat(columnDefault).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 바꾼 세션 버전은 알림을 받지 못해도 Redis 에서 읽는다")
+    void readSessionVersionFromRedis() {
+        // given
+        long userId = System.nanoTime();
+        stringRedisTemplate.opsForValue().set(SessionVersionRegistry.KEY_PREFIX + userId, "3");
+
+        // expected
+        assertThat(sessionVersionRegistry.isCurrent(userId, 2L)).isFalse();
+        assertThat(sessionVersionRegistry.isCurrent(userId, 3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션 클레임이 담긴 토큰은 세션 조회 없이 회원 세션을 만든다")
+    void resolveSessionFromClaims() throws Exception {
+        // given
+        loginMember();
+        String accessToken = jwtUtils.createAccessToken(member.getUserType(), member.getUsername(), SessionClaims.of(member));
+        clearInvocations(authServiceSpy);
+
+        // when
+        mockMvc.perform(get("/api/users/me")
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + accessToken)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        verify(authServiceSpy, never()).getSession(any());
+        verify(authServiceSpy, never()).getMemberSession(any());
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀌기 전에 발급된 토큰은 세션을 다시 조회한다")
+    void fallbackForStaleSessionVersion() throws Exception {
+        // given
+        loginMember();
+        String accessToken = jwtUtils.createAccessToken(member.getUserType(), member.getUsername(), SessionClaims.of(member));
+        userService.updateMe(member.getId(), new MeUpdateRequest("새 닉네임", null));
+        clearInvocations(authServiceSpy);
+
+        // when
+        mockMvc.perform(get("/api/users/me")
+                        .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + accessToken)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("새 닉네임"))
+                .andDo(print());
+
+        // then
+        verify(authServiceSpy, times(1)).getMemberSession(any());
+    }
+}
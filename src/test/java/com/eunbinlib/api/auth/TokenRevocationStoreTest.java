@@ -0,0 +1,100 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.auth.revocation.TokenRevocationStore;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest
+class TokenRevocationStoreTest {
+
+    private static final long EXPIRATION_MILLIS = 60_000L;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        Set<String> keys = stringRedisTemplate.keys("revokedToken:*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("filter 를 다시 만드는 동안 스캔이 끝난 뒤 폐기한 토큰도 새 filter 에 남는다")
+    void revokeDuringRebuild() {
+        // given
+        StringRedisTemplate redisTemplate = spy(stringRedisTemplate);
+        TokenRevocationStore store = new TokenRevocationStore(10_000L, 0.01, redisTemplate, mock(CacheInvalidationBus.class));
+        store.revoke("before", expiration());
+
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            store.revoke("during", expiration());
+            return result;
+        }).when(redisTemplate).execute(any(RedisCallback.class));
+
+        // when
+        store.rebuild();
+
+        // then
+        assertThat(store.isRevoked("before")).isTrue();
+        assertThat(store.isRevoked("during")).isTrue();
+        assertThat(store.isRevoked("never")).isFalse();
+    }
+
+    @Test
+    @DisplayName("filter 를 계속 다시 만드는 동안 폐기한 토큰이 모두 폐기로 판단된다")
+    void revokeWhileRebuildingRepeatedly() throws Exception {
+        // given
+        TokenRevocationStore store = new TokenRevocationStore(10_000L, 0.01, stringRedisTemplate, mock(CacheInvalidationBus.class));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean revoking = new AtomicBoolean(true);
+        Future<?> rebuilder = executor.submit(() -> {
+            while (revoking.get()) {
+                store.rebuild();
+            }
+        });
+
+        // when
+        List<String> jtis = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String jti = UUID.randomUUID().toString();
+            store.revoke(jti, expiration());
+            jtis.add(jti);
+        }
+        revoking.set(false);
+        rebuilder.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(jtis).allMatch(store::isRevoked);
+    }
+
+    private static Date expiration() {
+        return new Date(System.currentTimeMillis() + EXPIRATION_MILLIS);
+    }
+}
@@ -0,0 +1,82 @@
+package com.eunbinlib.api.auth;
+
+import com.eunbinlib.api.auth.exception.type.CustomJwtException;
+import com.eunbinlib.api.auth.utils.JwtUtils;
+import com.eunbinlib.api.auth.utils.RejectedTokenCache;
+import com.eunbinlib.api.auth.utils.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedClaimsCacheTest {
+
+    private static final String SECRET_KEY = "dmVyaWZpZWRDbGFpbXNDYWNoZVRlc3RTZWNyZXRLZXk=";
+
+    private static final long ACCESS_EXPIRATION = 60_000L;
+
+    private static final long REFRESH_EXPIRATION = 120_000L;
+
+    @Test
+    @DisplayName("같은 엑세스 토큰은 두 번째 검증부터 캐시된 클레임을 사용한다")
+    void reuseVerifiedClaims() {
+        // given
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(true, 100, 1_000_000);
+        JwtUtils jwtUtils = new JwtUtils(SECRET_KEY, ACCESS_EXPIRATION, REFRESH_EXPIRATION, cache,
+                new RejectedTokenCache(false, 100, 10_000));
+        String accessToken = jwtUtils.createAccessToken("member", "username");
+
+        // when
+        Claims first = jwtUtils.validateAccessToken(accessToken);
+        Claims second = jwtUtils.validateAccessToken(accessToken);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1L);
+        assertThat(cache.getEstimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시되지 않는다")
+    void neverCacheRejectedToken() {
+        // given
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(true, 100, 1_000_000);
+        JwtUtils jwtUtils = new JwtUtils(SECRET_KEY, ACCESS_EXPIRATION, REFRESH_EXPIRATION, cache,
+                new RejectedTokenCache(false, 100, 10_000));
+        String refreshToken = jwtUtils.createRefreshToken("member", "username");
+        String forgedToken = jwtUtils.createAccessToken("member", "username") + "forged";
+
+        // expected
+        assertThatThrownBy(() -> jwtUtils.validateAccessToken(refreshToken))
+                .isInstanceOf(CustomJwtException.class);
+        assertThatThrownBy(() -> jwtUtils.validateAccessToken(forgedToken))
+                .isInstanceOf(CustomJwtException.class);
+        assertThatThrownBy(() -> jwtUtils.validateAccessToken(forgedToken))
+                .isInstanceOf(CustomJwtException.class);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 토큰을 검증한다")
+    void disabledCache() {
+        // given
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(false, 100, 1_000_000);
+        JwtUtils jwtUtils = new JwtUtils(SECRET_KEY, ACCESS_EXPIRATION, REFRESH_EXPIRATION, cache,
+                new RejectedTokenCache(false, 100, 10_000));
+        String accessToken = jwtUtils.createAccessToken("member", "username");
+
+        // when
+        Claims first = jwtUtils.validateAccessToken(accessToken);
+        Claims second = jwtUtils.validateAccessToken(accessToken);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+    }
+}
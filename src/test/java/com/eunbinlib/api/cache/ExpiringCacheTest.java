@@ -0,0 +1,105 @@
+package com.eunbinlib.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    @Test
+    @DisplayName("만료 시각이 되는 순간 항목이 제거된다")
+    void evictAtExpiration() {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Long.MAX_VALUE, (k, v) -> 0L, now::get);
+        cache.put("key", "value", 2_000L);
+
+        // when
+        now.set(1_999L);
+        String beforeExpiration = cache.get("key");
+
+        now.set(2_000L);
+        String atExpiration = cache.get("key");
+
+        // then
+        assertThat(beforeExpiration).isEqualTo("value");
+        assertThat(atExpiration).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 항목은 저장하지 않는다")
+    void ignoreExpiredValue() {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Long.MAX_VALUE, (k, v) -> 0L, now::get);
+
+        // when
+        cache.put("key", "value", now.get());
+
+        // then
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("항목 수 상한을 넘으면 만료가 가장 가까운 항목부터 제거한다")
+    void evictByEntryLimit() {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, Long.MAX_VALUE, (k, v) -> 0L, now::get);
+        cache.put("late", "1", 5_000L);
+        cache.put("early", "2", 3_000L);
+
+        // when
+        cache.put("middle", "3", 4_000L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2L);
+        assertThat(cache.get("early")).isNull();
+        assertThat(cache.get("late")).isEqualTo("1");
+        assertThat(cache.get("middle")).isEqualTo("3");
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("가중치 상한을 넘으면 항목을 제거한다")
+    void evictByWeightLimit() {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(100, 10, (k, v) -> v.length(), now::get);
+        cache.put("first", "aaaaaa", 3_000L);
+
+        // when
+        cache.put("second", "bbbbbb", 4_000L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(1L);
+        assertThat(cache.weight()).isEqualTo(6L);
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.get("second")).isEqualTo("bbbbbb");
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 저장하면 값과 가중치가 교체된다")
+    void replaceValue() {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 100, (k, v) -> v.length(), now::get);
+        cache.put("key", "aaaa", 3_000L);
+
+        // when
+        cache.put("key", "bb", 4_000L);
+        cache.remove("other");
+
+        // then
+        assertThat(cache.size()).isEqualTo(1L);
+        assertThat(cache.weight()).isEqualTo(2L);
+        assertThat(cache.get("key")).isEqualTo("bb");
+        assertThat(cache.remove("key")).isEqualTo("bb");
+        assertThat(cache.weight()).isZero();
+    }
+}
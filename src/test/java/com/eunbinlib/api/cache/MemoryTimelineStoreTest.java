@@ -0,0 +1,128 @@
+package com.eunbinlib.api.cache;
+
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+import com.eunbinlib.api.application.timeline.MemoryTimelineStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryTimelineStoreTest {
+
+    @Test
+    @DisplayName("최신 글부터 용량만큼만 보관하고, 같은 글은 교체한다")
+    void keepNewestWithinCapacity() {
+        // given
+        MemoryTimelineStore store = new MemoryTimelineStore(3);
+        store.replaceAll(summaries(5, 4));
+
+        // when
+        store.upsert(summary(7L, 1L, "제목7"));
+        store.upsert(summary(6L, 1L, "제목6"));
+        store.upsert(summary(6L, 1L, "수정된 제목6"));
+        store.upsert(summary(1L, 1L, "제목1"));
+
+        // then
+        List<PostSummary> page = store.read(null, 3, memberId -> false).orElseThrow();
+        assertThat(page).extracting(PostSummary::getId).containsExactly(7L, 6L, 5L);
+        assertThat(page.get(1).getTitle()).isEqualTo("수정된 제목6");
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서 이후의 글을 차단한 회원을 제외하고 읽는다")
+    void readAfterCursorExcludingMembers() {
+        // given
+        MemoryTimelineStore store = new MemoryTimelineStore(10);
+        store.replaceAll(summaries(10, 1));
+
+        // when
+        Optional<List<PostSummary>> page = store.read(8L, 3, memberId -> memberId == 2L);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get()).extracting(PostSummary::getId).containsExactly(7L, 5L, 3L);
+    }
+
+    @Test
+    @DisplayName("타임라인 안에서 페이지를 채우지 못하면 empty 를 반환한다")
+    void emptyWhenWindowCannotFillPage() {
+        // given
+        MemoryTimelineStore store = new MemoryTimelineStore(10);
+        store.replaceAll(summaries(5, 1));
+
+        // expected
+        assertThat(store.read(3L, 3, memberId -> false)).isEmpty();
+        assertThat(store.read(null, 6, memberId -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제한 글은 타임라인에서 빠진다")
+    void remove() {
+        // given
+        MemoryTimelineStore store = new MemoryTimelineStore(10);
+        store.replaceAll(summaries(5, 1));
+
+        // when
+        store.remove(3L);
+        store.remove(100L);
+
+        // then
+        assertThat(store.read(null, 4, memberId -> false).orElseThrow())
+                .extracting(PostSummary::getId)
+                .containsExactly(5L, 4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("잘린 타임라인에서 글을 삭제한 뒤 오래된 글이 바뀌어도 끼워 넣지 않는다")
+    void ignoreOlderPostAfterTruncation() {
+        // given
+        MemoryTimelineStore store = new MemoryTimelineStore(3);
+        store.replaceAll(summaries(10, 8));
+        store.remove(9L);
+
+        // when
+        store.upsert(summary(5L, 1L, "댓글이 달린 제목5"));
+        store.upsert(summary(8L, 1L, "수정된 제목8"));
+
+        // then
+        List<PostSummary> page = store.read(null, 2, memberId -> false).orElseThrow();
+        assertThat(page).extracting(PostSummary::getId).containsExactly(10L, 8L);
+        assertThat(page.get(1).getTitle()).isEqualTo("수정된 제목8");
+        assertThat(store.read(8L, 1, memberId -> false)).isEmpty();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘린 적이 없는 타임라인에는 오래된 글도 제자리에 넣는다")
+    void insertOlderPostWhenWindowHoldsAll() {
+        // given
+        MemoryTimelineStore store = new MemoryTimelineStore(10);
+        store.replaceAll(summaries(10, 8));
+        store.remove(9L);
+
+        // when
+        store.upsert(summary(9L, 1L, "제목9"));
+
+        // then
+        assertThat(store.read(null, 3, memberId -> false).orElseThrow())
+                .extracting(PostSummary::getId)
+                .containsExactly(10L, 9L, 8L);
+    }
+
+    private static List<PostSummary> summaries(long from, long to) {
+        return LongStream.rangeClosed(to, from)
+                .map(i -> from + to - i)
+                .mapToObj(id -> summary(id, id % 2 == 0 ? 2L : 1L, "제목" + id))
+                .collect(Collectors.toList());
+    }
+
+    private static PostSummary summary(Long id, Long memberId, String title) {
+        return new PostSummary(id, memberId, title, "내용" + id, 0L);
+    }
+}
@@ -0,0 +1,143 @@
+package com.eunbinlib.api.cache;
+
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+import com.eunbinlib.api.application.timeline.RedisTimelineStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisTimelineStoreTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(RedisTimelineStore.KEY, RedisTimelineStore.TRUNCATED_KEY, RedisTimelineStore.REBUILDING_KEY));
+    }
+
+    @Test
+    @DisplayName("여러 노드가 Redis 에 저장된 같은 타임라인을 읽는다")
+    void shareTimelineAcrossNodes() {
+        // given
+        RedisTimelineStore nodeA = new RedisTimelineStore(stringRedisTemplate, objectMapper, 3);
+        RedisTimelineStore nodeB = new RedisTimelineStore(stringRedisTemplate, objectMapper, 3);
+
+        // when
+        nodeA.replaceAll(List.of(summary(2L, 1L), summary(1L, 2L)));
+        nodeA.upsert(summary(3L, 1L));
+        nodeB.upsert(summary(4L, 2L));
+        nodeB.upsert(new PostSummary(3L, 1L, "수정된 제목3", null, 0L));
+
+        // then
+        List<PostSummary> page = nodeB.read(null, 3, memberId -> false).orElseThrow();
+        assertThat(page).extracting(PostSummary::getId).containsExactly(4L, 3L, 2L);
+        assertThat(page.get(1).getTitle()).isEqualTo("수정된 제목3");
+        assertThat(page.get(1).getExcerpt()).isNull();
+        assertThat(nodeA.isShared()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 이후의 글을 차단한 회원을 제외하고 읽고, 채우지 못하면 empty 를 반환한다")
+    void readAfterCursor() {
+        // given
+        RedisTimelineStore store = new RedisTimelineStore(stringRedisTemplate, objectMapper, 10);
+        store.replaceAll(List.of(summary(5L, 1L), summary(4L, 2L), summary(3L, 1L), summary(2L, 2L), summary(1L, 1L)));
+        store.remove(3L);
+
+        // expected
+        assertThat(store.read(5L, 1, memberId -> memberId == 2L).orElseThrow())
+                .extracting(PostSummary::getId)
+                .containsExactly(1L);
+        assertThat(store.read(5L, 2, memberId -> memberId == 2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘린 타임라인에서 글을 삭제한 뒤 오래된 글이 바뀌어도 끼워 넣지 않는다")
+    void ignoreOlderPostAfterTruncation() {
+        // given
+        RedisTimelineStore store = new RedisTimelineStore(stringRedisTemplate, objectMapper, 3);
+        store.replaceAll(List.of(summary(10L, 1L), summary(9L, 1L), summary(8L, 1L)));
+        store.remove(9L);
+
+        // when
+        store.upsert(summary(5L, 1L));
+        store.upsert(new PostSummary(8L, 1L, "수정된 제목8", null, 1L));
+
+        // then
+        List<PostSummary> page = store.read(null, 2, memberId -> false).orElseThrow();
+        assertThat(page).extracting(PostSummary::getId).containsExactly(10L, 8L);
+        assertThat(page.get(1).getTitle()).isEqualTo("수정된 제목8");
+        assertThat(store.read(8L, 1, memberId -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 글이 용량을 넘기면 타임라인이 잘리고, 그보다 오래된 글은 넣지 않는다")
+    void truncateOnOverflow() {
+        // given
+        RedisTimelineStore store = new RedisTimelineStore(stringRedisTemplate, objectMapper, 2);
+        store.replaceAll(List.of(summary(2L, 1L)));
+        store.upsert(summary(1L, 1L));
+
+        // when
+        store.upsert(summary(3L, 1L));
+        store.remove(2L);
+        store.upsert(summary(1L, 1L));
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(RedisTimelineStore.TRUNCATED_KEY)).isTrue();
+        assertThat(store.read(null, 1, memberId -> false).orElseThrow())
+                .extracting(PostSummary::getId)
+                .containsExactly(3L);
+        assertThat(store.read(3L, 1, memberId -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("타임라인을 다시 만들면 글과 잘림 표시를 한 번에 바꿔 끼운다")
+    void replaceAtOnce() {
+        // given
+        RedisTimelineStore store = new RedisTimelineStore(stringRedisTemplate, objectMapper, 2);
+
+        // when
+        store.replaceAll(List.of(summary(3L, 1L), summary(2L, 1L), summary(1L, 1L)));
+
+        // then
+        assertThat(store.isPopulated()).isTrue();
+        assertThat(stringRedisTemplate.hasKey(RedisTimelineStore.TRUNCATED_KEY)).isTrue();
+        assertThat(stringRedisTemplate.hasKey(RedisTimelineStore.REBUILDING_KEY)).isFalse();
+        assertThat(store.read(null, 2, memberId -> false).orElseThrow())
+                .extracting(PostSummary::getId)
+                .containsExactly(3L, 2L);
+
+        // when
+        store.replaceAll(List.of(summary(1L, 1L)));
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(RedisTimelineStore.TRUNCATED_KEY)).isFalse();
+        assertThat(store.read(null, 1, memberId -> false).orElseThrow())
+                .extracting(PostSummary::getId)
+                .containsExactly(1L);
+
+        // when
+        store.replaceAll(List.of());
+
+        // then
+        assertThat(store.isPopulated()).isFalse();
+    }
+
+    private static PostSummary summary(Long id, Long memberId) {
+        return new PostSummary(id, memberId, "제목" + id, "내용" + id, 0L);
+    }
+}
@@ -0,0 +1,131 @@
+package com.eunbinlib.api.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "twoTierCacheTest";
+
+    private static final long AWAIT_MILLIS = 3_000L;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisCacheManager redisCacheManager;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    private Cache nodeA;
+
+    private Cache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = createNode().getCache(CACHE_NAME);
+        nodeB = createNode().getCache(CACHE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        redisCacheManager.getCache(CACHE_NAME).clear();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 있는 값은 Redis 를 조회하지 않고 반환한다")
+    void readFromLocalCache() {
+        // given
+        nodeB.put("key", "value");
+
+        // when
+        redisCacheManager.getCache(CACHE_NAME).evict("key");
+
+        // then
+        assertThat(nodeB.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 값을 바꾸면 로컬 캐시가 무효화된다")
+    void invalidateOnPut() {
+        // given
+        nodeA.put("key", "before");
+        assertThat(nodeB.get("key", String.class)).isEqualTo("before");
+
+        // when
+        nodeA.put("key", "after");
+
+        // then
+        assertThat(await(() -> "after".equals(nodeB.get("key", String.class)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 값을 삭제하면 로컬 캐시도 삭제된다")
+    void invalidateOnEvict() {
+        // given
+        nodeA.put("key", "value");
+        assertThat(nodeB.get("key", String.class)).isEqualTo("value");
+
+        // when
+        nodeA.evict("key");
+
+        // then
+        assertThat(await(() -> nodeB.get("key") == null)).isTrue();
+    }
+
+    private TwoTierCacheManager createNode() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(stringRedisTemplate);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(bus, new ChannelTopic(CacheInvalidationBus.TOPIC));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        assertThat(await(container::isListening)).isTrue();
+
+        return new TwoTierCacheManager(redisCacheManager, Set.of(CACHE_NAME), 100L, 60_000L, bus);
+    }
+
+    private static boolean await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return condition.getAsBoolean();
+    }
+}
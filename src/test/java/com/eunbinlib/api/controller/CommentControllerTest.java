@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -115,6 +116,50 @@ class CommentControllerTest extends ControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("read")
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+    class Read {
+
+        @Test
+        @DisplayName("댓글 목록 조회")
+        void readComments() throws Exception {
+            // given
+            loginMember();
+            Post post = getPost(member);
+            Comment comment1 = getComment(member, post);
+            Comment comment2 = getComment(member, post);
+            commentRepository.save(Comment.builder()
+                    .content("답글")
+                    .member(member)
+                    .post(post)
+                    .parent(comment1)
+                    .build());
+
+            // expected
+            mockMvc.perform(get("/api/comments")
+                            .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                            .param("postId", String.valueOf(post.getId()))
+                            .param("size", "1")
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.meta.hasMore").value(true))
+                    .andExpect(jsonPath("$.data.size()").value(1))
+                    .andExpect(jsonPath("$.data[0].id").value(comment1.getId().intValue()))
+                    .andExpect(jsonPath("$.data[0].replyCount").value(1))
+                    .andExpect(jsonPath("$.data[0].replies.size()").value(1))
+                    .andDo(print());
+
+            mockMvc.perform(get("/api/comments/{commentId}/replies", comment2.getId())
+                            .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.meta.hasMore").value(false))
+                    .andExpect(jsonPath("$.data.size()").value(0))
+                    .andDo(print());
+        }
+    }
+
     @Nested
     @DisplayName("update")
     @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
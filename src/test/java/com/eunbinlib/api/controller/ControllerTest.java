@@ -1,7 +1,7 @@
 package com.eunbinlib.api.controller;
 
 import com.eunbinlib.api.DatabaseCleaner;
-import com.eunbinlib.api.auth.usercontext.MapUserContextRepository;
+import com.eunbinlib.api.auth.usercontext.UserContextRepository;
 import com.eunbinlib.api.auth.utils.JwtUtils;
 import com.eunbinlib.api.application.domain.comment.Comment;
 import com.eunbinlib.api.application.domain.imagefile.BaseImageFile;
@@ -16,11 +16,17 @@ import com.eunbinlib.api.application.domain.repository.user.MemberRepository;
 import com.eunbinlib.api.application.domain.repository.user.UserRepository;
 import com.eunbinlib.api.application.domain.user.Guest;
 import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.search.PostSearchIndex;
+import com.eunbinlib.api.application.timeline.PostTimeline;
+import com.eunbinlib.api.application.trending.TrendingPosts;
+import com.eunbinlib.api.application.utils.PostDetailCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -54,6 +60,21 @@ public abstract class ControllerTest {
     @Autowired
     private DatabaseCleaner databaseCleaner;
 
+    @Autowired
+    private PostTimeline postTimeline;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private TrendingPosts trendingPosts;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @Autowired
     protected UserRepository userRepository;
     @Autowired
@@ -69,12 +90,20 @@ public abstract class ControllerTest {
     @Autowired
     protected CommentRepository commentRepository;
     @Autowired
-    protected MapUserContextRepository userContextRepository;
+    protected UserContextRepository userContextRepository;
 
     @BeforeEach
     void setUp() {
         databaseCleaner.afterPropertiesSet();
         databaseCleaner.execute();
+        postTimeline.clear();
+        postDetailCache.clear();
+        postSearchIndex.clear();
+        trendingPosts.clear();
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
     }
 
     protected void loginMember() {
@@ -395,6 +395,48 @@ class PostControllerTest extends ControllerTest {
                     .andExpect(jsonPath("$..['data'][0].content").value(post.getContent()))
                     .andDo(print());
         }
+
+        @Test
+        @DisplayName("인기 글 조회")
+        void readTrending() throws Exception {
+            // given
+            loginMember();
+            Post post = getPost(member);
+            mockMvc.perform(post("/api/posts/{postId}/like", post.getId())
+                            .param("isLike", "true")
+                            .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                            .contentType(APPLICATION_JSON))
+                    .andExpect(status().isOk());
+
+            // expected
+            mockMvc.perform(get("/api/posts/trending")
+                            .param("size", "10")
+                            .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                            .contentType(APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()", is(1)))
+                    .andExpect(jsonPath("$.data[0].id").value(post.getId().intValue()))
+                    .andExpect(jsonPath("$.data[0].likedByMe").value(true))
+                    .andExpect(jsonPath("$.meta.hasMore").value(false))
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("글 검색 실패 - 검색어 필수 입력")
+        void searchQueryNotBlank() throws Exception {
+            // given
+            loginMember();
+
+            // expected
+            mockMvc.perform(get("/api/posts/search")
+                            .param("query", " ")
+                            .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + memberAccessToken)
+                            .contentType(APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
+                    .andExpect(jsonPath("$.validation.query").value("검색어를 입력해주세요."))
+                    .andDo(print());
+        }
     }
 
     @Nested
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MvcResult;
 
 import javax.transaction.Transactional;
 
@@ -30,6 +31,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -55,10 +57,14 @@ class UserControllerTest extends ControllerTest {
             String json = objectMapper.writeValueAsString(request);
 
             // when
-            mockMvc.perform(post(JOIN_MEMBER_URL)
+            MvcResult mvcResult = mockMvc.perform(post(JOIN_MEMBER_URL)
                             .contentType(APPLICATION_JSON)
                             .content(json)
                     )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().isOk())
                     .andDo(print());
 
@@ -146,10 +152,14 @@ class UserControllerTest extends ControllerTest {
             String json = objectMapper.writeValueAsString(request);
 
             // expected
-            mockMvc.perform(post(JOIN_MEMBER_URL)
+            MvcResult mvcResult = mockMvc.perform(post(JOIN_MEMBER_URL)
                             .contentType(APPLICATION_JSON)
                             .content(json)
                     )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().isBadRequest())
                     .andDo(print());
         }
@@ -164,10 +174,14 @@ class UserControllerTest extends ControllerTest {
             String json = objectMapper.writeValueAsString(request);
 
             // when
-            mockMvc.perform(post(JOIN_GUEST_URL)
+            MvcResult mvcResult = mockMvc.perform(post(JOIN_GUEST_URL)
                             .contentType(APPLICATION_JSON)
                             .content(json)
                     )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().isOk())
                     .andDo(print());
 
@@ -193,10 +207,14 @@ class UserControllerTest extends ControllerTest {
             String json = objectMapper.writeValueAsString(request);
 
             // expected
-            mockMvc.perform(post(JOIN_GUEST_URL)
+            MvcResult mvcResult = mockMvc.perform(post(JOIN_GUEST_URL)
                             .contentType(APPLICATION_JSON)
                             .content(json)
                     )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().isBadRequest())
                     .andDo(print());
         }
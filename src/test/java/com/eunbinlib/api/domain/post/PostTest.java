@@ -59,6 +59,37 @@ public class PostTest {
                 .isEqualTo(title);
     }
 
+    @Test
+    @DisplayName("본문을 수정하면 목록용 excerpt 도 최대 길이에 맞춰 갱신된다")
+    void updateExcerpt() {
+        // given
+        Post post = Post.builder()
+                .title(title)
+                .content(content)
+                .build();
+        String longContent = "가".repeat(Post.EXCERPT_LENGTH - 1) + "\uD83D\uDE00" + "나".repeat(10);
+
+        // when
+        post.updateTitleAndContent(null, longContent);
+
+        // then
+        assertThat(post.getContent()).isEqualTo(longContent);
+        assertThat(post.getExcerpt()).isEqualTo("가".repeat(Post.EXCERPT_LENGTH - 1));
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 excerpt 와 같다")
+    void shortContentExcerpt() {
+        // when
+        Post post = Post.builder()
+                .title(title)
+                .content(content)
+                .build();
+
+        // then
+        assertThat(post.getExcerpt()).isEqualTo(content);
+    }
+
     @Test
     @DisplayName("게시글의 제목/내용을 null 값으로 수정하는 경우")
     void updateNullTitleAndNullContent() {
@@ -55,6 +55,24 @@ public class MemberTest {
                 .isEqualTo("수정된 닉네임");
         assertThat(member.getProfileImageFile())
                 .isNull();
+        assertThat(member.getSessionVersion())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 닉네임으로 수정하면 세션 버전이 증가하지 않는다")
+    void keepSessionVersionForSameNickname() {
+        // given
+        Member member = Member.builder()
+                .nickname("닉네임")
+                .build();
+
+        // when
+        member.update("닉네임", null);
+
+        // then
+        assertThat(member.getSessionVersion())
+                .isZero();
     }
 
     @Test
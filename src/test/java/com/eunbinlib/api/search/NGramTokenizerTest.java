@@ -0,0 +1,34 @@
+package com.eunbinlib.api.search;
+
+import com.eunbinlib.api.application.search.NGramTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    @Test
+    @DisplayName("단어마다 한 글자와 두 글자 조각을 색인어로 만든다")
+    void indexTerms() {
+        // expected
+        assertThat(NGramTokenizer.indexTerms("도서관에서", "책!"))
+                .containsExactlyInAnyOrder("도", "서", "관", "에", "책", "도서", "서관", "관에", "에서");
+    }
+
+    @Test
+    @DisplayName("검색어는 두 글자 이상이면 두 글자 조각만, 한 글자면 그 글자를 쓴다")
+    void queryTerms() {
+        // expected
+        assertThat(NGramTokenizer.queryTerms("도서관 책")).containsExactly("도서", "서관", "책");
+    }
+
+    @Test
+    @DisplayName("전각 문자와 대문자는 정규화해서 같은 색인어로 만든다")
+    void normalize() {
+        // expected
+        assertThat(NGramTokenizer.queryTerms("ＪＡＶＡ")).isEqualTo(NGramTokenizer.queryTerms("java"));
+        assertThat(NGramTokenizer.queryTerms("  !?  ")).isEmpty();
+        assertThat(NGramTokenizer.indexTerms((String) null)).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.eunbinlib.api.search;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.domain.repository.post.PostSearchRow;
+import com.eunbinlib.api.application.search.PostSearchIndex;
+import com.eunbinlib.api.application.search.PostSearchIndexer;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+
+    private final PostSearchIndex index = new PostSearchIndex();
+
+    @Test
+    @DisplayName("검색어의 조각을 모두 가진 글을 최신 글부터 커서 이후로 찾는다")
+    void searchNewestFirstAfterCursor() {
+        // given
+        index.upsert(row(1L, 1L, "도서관 이용 안내", "평일에는 9시에 엽니다"));
+        index.upsert(row(3L, 1L, "동네 도서관에서", "책을 빌렸다"));
+        index.upsert(row(2L, 2L, "도서 추천", "소설"));
+        index.upsert(row(5L, 2L, "도서관 휴관일", "월요일"));
+
+        // expected
+        assertThat(index.search("도서관", null, 10, memberId -> false)).containsExactly(5L, 3L, 1L);
+        assertThat(index.search("도서관", 3L, 10, memberId -> false)).containsExactly(1L);
+        assertThat(index.search("도서관", null, 2, memberId -> false)).containsExactly(5L, 3L);
+        assertThat(index.search("도서관 책", null, 10, memberId -> false)).containsExactly(3L);
+        assertThat(index.search("도서관", null, 10, memberId -> memberId == 2L)).containsExactly(3L, 1L);
+        assertThat(index.search("없는말", null, 10, memberId -> false)).isEmpty();
+        assertThat(index.search("!!", null, 10, memberId -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("글을 수정하면 예전 색인어를 지우고, 삭제하면 검색되지 않는다")
+    void upsertAndRemove() {
+        // given
+        index.upsert(row(1L, 1L, "자바 스터디", "모집합니다"));
+        index.upsert(row(2L, 1L, "자바 질문", "스프링"));
+
+        // when
+        index.upsert(row(1L, 1L, "코틀린 스터디", "모집합니다"));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("자바", null, 10, memberId -> false)).isEmpty();
+        assertThat(index.search("코틀린", null, 10, memberId -> false)).containsExactly(1L);
+        assertThat(index.getDocumentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 만드는 중에 바뀐 글은 다시 만드는 데 쓰인 예전 값으로 덮어쓰지 않는다")
+    void changesDuringRebuildWin() {
+        // given
+        index.upsert(row(1L, 1L, "예전 제목", "내용"));
+        index.upsert(row(2L, 1L, "지울 글", "내용"));
+
+        // when
+        index.startRebuild();
+        index.upsert(row(1L, 1L, "새로운 제목", "내용"));
+        index.remove(2L);
+        index.addToRebuild(List.of(row(1L, 1L, "예전 제목", "내용"), row(2L, 1L, "지울 글", "내용"), row(3L, 1L, "예전 글", "내용")));
+        index.finishRebuild();
+
+        // then
+        assertThat(index.search("새로운", null, 10, memberId -> false)).containsExactly(1L);
+        assertThat(index.search("예전", null, 10, memberId -> false)).containsExactly(3L);
+        assertThat(index.search("지울", null, 10, memberId -> false)).isEmpty();
+        assertThat(index.getDocumentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다시 만들다가 실패하면 현재 색인을 그대로 쓰고, 이후 변경은 버려진 새 색인에 쌓이지 않는다")
+    void abortFailedRebuild() {
+        // given
+        index.upsert(row(1L, 1L, "자바 스터디", "내용"));
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findSearchRows(any(), anyLong())).thenThrow(new IllegalStateException("db down"));
+        PostSearchIndexer indexer = new PostSearchIndexer(index, postRepository, mock(CacheInvalidationBus.class), 10, 0L);
+
+        // when
+        assertThatThrownBy(indexer::rebuild).isInstanceOf(IllegalStateException.class);
+        index.upsert(row(2L, 1L, "자바 모임", "내용"));
+
+        // then
+        assertThat(index.isRebuilding()).isFalse();
+        assertThat(index.search("자바", null, 10, memberId -> false)).containsExactly(2L, 1L);
+    }
+
+    private PostSearchRow row(Long id, Long memberId, String title, String content) {
+        return new PostSearchRow(id, memberId, title, content);
+    }
+}
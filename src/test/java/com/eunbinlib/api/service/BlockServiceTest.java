@@ -4,6 +4,7 @@ import com.eunbinlib.api.application.domain.block.Block;
 import com.eunbinlib.api.application.domain.user.Member;
 import com.eunbinlib.api.application.exception.type.notfound.UserNotFoundException;
 import com.eunbinlib.api.application.service.BlockService;
+import com.eunbinlib.api.application.utils.BlockedMemberCache;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +22,9 @@ class BlockServiceTest extends ServiceTest {
     @Autowired
     BlockService blockService;
 
+    @Autowired
+    BlockedMemberCache blockedMemberCache;
+
     @Nested
     @DisplayName("유저 차단")
     class BlockUser {
@@ -154,4 +158,40 @@ class BlockServiceTest extends ServiceTest {
                     .isInstanceOf(UserNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("차단 목록 캐시")
+    class BlockedMemberCacheCoherence {
+
+        @Test
+        @DisplayName("차단하면 캐시된 차단 목록이 갱신된다")
+        void refreshAfterBlock() {
+            // given
+            Member member1 = getMember();
+            Member member2 = getMember();
+            assertThat(blockedMemberCache.get(member1.getId()).isEmpty()).isTrue();
+
+            // when
+            blockService.blockUser(member1.getId(), member2.getId());
+
+            // then
+            assertThat(blockedMemberCache.get(member1.getId()).contains(member2.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("차단 해제하면 캐시된 차단 목록이 갱신된다")
+        void refreshAfterUnblock() {
+            // given
+            Member member1 = getMember();
+            Member member2 = getMember();
+            blockService.blockUser(member1.getId(), member2.getId());
+            assertThat(blockedMemberCache.get(member1.getId()).contains(member2.getId())).isTrue();
+
+            // when
+            blockService.unblockUser(member1.getId(), member2.getId());
+
+            // then
+            assertThat(blockedMemberCache.get(member1.getId()).isEmpty()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.comment.Comment;
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.CommentCreateRequest;
+import com.eunbinlib.api.application.dto.request.PostReadRequest;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.service.CommentService;
+import com.eunbinlib.api.application.service.PostService;
+import com.eunbinlib.api.application.utils.CommentCountRepairJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentCountTest extends ServiceTest {
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentCountRepairJob commentCountRepairJob;
+
+    @Test
+    @DisplayName("댓글과 답글을 작성하면 댓글 수가 늘고, 삭제하면 한 번만 줄어든다")
+    void commentCountFollowsCreateAndDelete() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        Long commentId = createComment(member, post, null);
+        createComment(member, post, commentId);
+        Long deletedId = createComment(member, post, null);
+
+        // when
+        commentService.delete(member.getId(), deletedId);
+        commentService.delete(member.getId(), deletedId);
+
+        // then
+        assertThat(commentCount(post)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("글 목록에 댓글 수를 함께 내려준다")
+    void feedWithCommentCount() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        createComment(member, post, null);
+
+        // when
+        PostResponse result = postService.readMany(member.getId(), PostReadRequest.builder().build())
+                .getData()
+                .get(0);
+
+        // then
+        assertThat(result.getId()).isEqualTo(post.getId());
+        assertThat(result.getCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("어긋난 댓글 수만 실제 댓글 수로 고친다")
+    void repairDriftedCommentCount() {
+        // given
+        Member member = getMember();
+        Post drifted = getPost(member);
+        Post correct = getPost(member);
+        createComment(member, drifted, null);
+        createComment(member, correct, null);
+
+        Comment deleted = getComment(member, drifted);
+        deleted.delete();
+        commentRepository.save(deleted);
+        postRepository.addCommentCount(drifted.getId(), 5L);
+
+        // when
+        long repaired = commentCountRepairJob.repair();
+
+        // then
+        assertThat(repaired).isEqualTo(1L);
+        assertThat(commentCount(drifted)).isEqualTo(1L);
+        assertThat(commentCount(correct)).isEqualTo(1L);
+        assertThat(commentCountRepairJob.repair()).isZero();
+    }
+
+    private Long createComment(Member member, Post post, Long parentId) {
+        return commentService.create(member.getId(), new CommentCreateRequest("댓글", post.getId(), parentId))
+                .getId();
+    }
+
+    private long commentCount(Post post) {
+        return postRepository.findById(post.getId()).orElseThrow().getCommentCount();
+    }
+}
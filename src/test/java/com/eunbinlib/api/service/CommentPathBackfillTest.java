@@ -0,0 +1,66 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.comment.Comment;
+import com.eunbinlib.api.application.domain.comment.CommentPath;
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.CommentReadRequest;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.CommentInfo;
+import com.eunbinlib.api.application.service.CommentService;
+import com.eunbinlib.api.application.utils.CommentPathBackfillJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentPathBackfillTest extends ServiceTest {
+
+    @Autowired
+    CommentPathBackfillJob commentPathBackfillJob;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("경로가 비어 있는 댓글을 부모부터 채워서 하위 댓글을 조회할 수 있다")
+    void backfillMissingPath() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        Comment root = getComment(member, post);
+        Comment reply = getReply(member, post, root);
+        Comment nested = getReply(member, post, reply);
+        Comment filledRoot = getComment(member, post);
+        jdbcTemplate.update("update comment set path = null, thread_id = null where id <> ?", filledRoot.getId());
+
+        // when
+        long filled = commentPathBackfillJob.backfill().getProcessed();
+
+        // then
+        assertThat(filled).isEqualTo(3L);
+        assertThat(commentPathBackfillJob.backfill().getProcessed()).isZero();
+
+        String rootPath = CommentPath.of(null, root.getId());
+        Comment findNested = commentRepository.findById(nested.getId()).orElseThrow();
+        assertThat(findNested.getPath()).isEqualTo(CommentPath.of(CommentPath.of(rootPath, reply.getId()), nested.getId()));
+        assertThat(findNested.getThreadId()).isEqualTo(root.getId());
+
+        assertThat(commentService.readSubtree(root.getId(), CommentReadRequest.builder().build()).getData())
+                .extracting(CommentInfo::getId)
+                .containsExactly(reply.getId(), nested.getId());
+    }
+
+    private Comment getReply(Member member, Post post, Comment parent) {
+        return commentRepository.save(Comment.builder()
+                .content("답글")
+                .member(member)
+                .post(post)
+                .parent(parent)
+                .build());
+    }
+}
@@ -1,26 +1,39 @@
 package com.eunbinlib.api.service;
 
 import com.eunbinlib.api.application.domain.comment.Comment;
+import com.eunbinlib.api.application.domain.comment.CommentPath;
 import com.eunbinlib.api.application.domain.comment.CommentState;
 import com.eunbinlib.api.application.domain.post.Post;
 import com.eunbinlib.api.application.domain.user.Member;
 import com.eunbinlib.api.application.dto.request.CommentCreateRequest;
+import com.eunbinlib.api.application.dto.request.CommentReadRequest;
 import com.eunbinlib.api.application.dto.request.CommentUpdateRequest;
 import com.eunbinlib.api.application.dto.response.OnlyIdResponse;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.CommentInfo;
 import com.eunbinlib.api.application.exception.type.ForbiddenAccessException;
+import com.eunbinlib.api.application.exception.type.InvalidRequestException;
 import com.eunbinlib.api.application.exception.type.notfound.CommentNotFoundException;
 import com.eunbinlib.api.application.exception.type.notfound.PostNotFoundException;
 import com.eunbinlib.api.application.service.CommentService;
+import com.eunbinlib.api.application.service.CommentThreadReader;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.TransactionSystemException;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @Slf4j
 class CommentServiceTest extends ServiceTest {
@@ -28,6 +41,9 @@ class CommentServiceTest extends ServiceTest {
     @Autowired
     CommentService commentService;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Nested
     @DisplayName("create")
     class Create {
@@ -74,6 +90,82 @@ class CommentServiceTest extends ServiceTest {
                     .isEqualTo(comment.getId());
         }
 
+        @Test
+        @DisplayName("대댓글의 경로는 부모 경로 뒤에 이어지고, 스레드는 루트 댓글을 따른다")
+        void createReplyPath() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment root = getComment(member, post);
+            Long replyId = commentService.create(member.getId(), new CommentCreateRequest("답글", post.getId(), root.getId())).getId();
+
+            // when
+            Long nestedId = commentService.create(member.getId(), new CommentCreateRequest("답글의 답글", post.getId(), replyId)).getId();
+
+            // then
+            Comment findRoot = commentRepository.findById(root.getId()).orElseThrow();
+            Comment findReply = commentRepository.findById(replyId).orElseThrow();
+            Comment findNested = commentRepository.findById(nestedId).orElseThrow();
+
+            assertThat(findRoot.getThreadId()).isEqualTo(root.getId());
+            assertThat(findNested.getThreadId()).isEqualTo(root.getId());
+            assertThat(findReply.getPath()).startsWith(findRoot.getPath());
+            assertThat(findNested.getPath()).startsWith(findReply.getPath());
+            assertThat(findNested.getPath()).isLessThan(CommentPath.upperBound(findRoot.getPath()));
+        }
+
+        @Test
+        @DisplayName("경로가 생기기 전에 작성된 댓글에 답글을 다는 경우 - 조상부터 경로와 스레드를 채운다")
+        void createReplyToCommentWithoutPath() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment root = getComment(member, post);
+            Long replyId = commentService.create(member.getId(), new CommentCreateRequest("답글", post.getId(), root.getId())).getId();
+            jdbcTemplate.update("update comment set path = null, thread_id = null");
+
+            // when
+            Long nestedId = commentService.create(member.getId(), new CommentCreateRequest("답글의 답글", post.getId(), replyId)).getId();
+
+            // then
+            String rootPath = CommentPath.of(null, root.getId());
+            String replyPath = CommentPath.of(rootPath, replyId);
+            Comment findRoot = commentRepository.findById(root.getId()).orElseThrow();
+            Comment findReply = commentRepository.findById(replyId).orElseThrow();
+            Comment findNested = commentRepository.findById(nestedId).orElseThrow();
+
+            assertThat(findRoot.getPath()).isEqualTo(rootPath);
+            assertThat(findReply.getPath()).isEqualTo(replyPath);
+            assertThat(findNested.getPath()).isEqualTo(CommentPath.of(replyPath, nestedId));
+            assertThat(findNested.getThreadId()).isEqualTo(root.getId());
+            assertThat(commentService.readSubtree(root.getId(), CommentReadRequest.builder().build()).getData())
+                    .extracting(CommentInfo::getId)
+                    .containsExactly(replyId, nestedId);
+        }
+
+        @Test
+        @DisplayName("경로 길이를 넘을 만큼 깊게 답글을 다는 경우")
+        void createReplyTooDeep() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment parent = getComment(member, post);
+            while (CommentPath.canAppendTo(parent.getPath())) {
+                parent = commentRepository.save(Comment.builder()
+                        .content("답글")
+                        .member(member)
+                        .post(post)
+                        .parent(parent)
+                        .build());
+            }
+
+            CommentCreateRequest request = new CommentCreateRequest("댓글 내용", post.getId(), parent.getId());
+
+            // expected
+            assertThatThrownBy(() -> commentService.create(member.getId(), request))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+
         @Test
         @DisplayName("게시글을 지정하지 않고 댓글을 작성하는 경우")
         void createCommentNoPostId() {
@@ -228,4 +320,224 @@ class CommentServiceTest extends ServiceTest {
                     .isInstanceOf(CommentNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("read")
+    class Read {
+
+        @Test
+        @DisplayName("댓글 목록 조회 - 커서로 다음 페이지를 이어서 조회")
+        void readManyWithCursor() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            List<Comment> comments = IntStream.range(0, 5)
+                    .mapToObj(i -> getComment(member, post))
+                    .collect(Collectors.toList());
+
+            // when
+            PaginationResponse<CommentInfo> first = commentService.readMany(post.getId(), CommentReadRequest.builder()
+                    .size(3)
+                    .build());
+            PaginationResponse<CommentInfo> second = commentService.readMany(post.getId(), CommentReadRequest.builder()
+                    .cursor(first.getMeta().getNextCursor())
+                    .size(3)
+                    .build());
+
+            // then
+            assertThat(first.getData()).extracting(CommentInfo::getId)
+                    .containsExactly(comments.get(0).getId(), comments.get(1).getId(), comments.get(2).getId());
+            assertThat(first.getMeta().getHasMore()).isTrue();
+            assertThat(second.getData()).extracting(CommentInfo::getId)
+                    .containsExactly(comments.get(3).getId(), comments.get(4).getId());
+            assertThat(second.getMeta().getHasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("댓글 목록 조회 - 댓글마다 앞쪽 답글만 붙이고 나머지는 답글 커서로 조회")
+        void readThreadsWithReplies() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment root = getComment(member, post);
+            List<Comment> replies = IntStream.range(0, CommentThreadReader.REPLIES_PER_THREAD + 2)
+                    .mapToObj(i -> getReply(member, post, root))
+                    .collect(Collectors.toList());
+            Comment nested = getReply(member, post, replies.get(0));
+
+            // when
+            CommentInfo thread = commentService.readMany(post.getId(), CommentReadRequest.builder().build())
+                    .getData()
+                    .get(0);
+            PaginationResponse<CommentInfo> rest = commentService.readReplies(root.getId(), CommentReadRequest.builder()
+                    .cursor(thread.getNextReplyCursor())
+                    .build());
+
+            // then
+            assertThat(thread.getId()).isEqualTo(root.getId());
+            assertThat(thread.getReplyCount()).isEqualTo(replies.size());
+            assertThat(thread.getReplies()).extracting(CommentInfo::getId)
+                    .containsExactly(replies.get(0).getId(), replies.get(1).getId(), replies.get(2).getId());
+            assertThat(thread.getReplies().get(0).getReplyCount()).isEqualTo(1L);
+            assertThat(thread.getReplies().get(0).getNextReplyCursor()).isNotNull();
+
+            assertThat(rest.getData()).extracting(CommentInfo::getId)
+                    .containsExactly(replies.get(3).getId(), replies.get(4).getId());
+            assertThat(rest.getMeta().getHasMore()).isFalse();
+
+            assertThat(commentService.readReplies(replies.get(0).getId(), CommentReadRequest.builder()
+                    .cursor(thread.getReplies().get(0).getNextReplyCursor())
+                    .build())
+                    .getData())
+                    .extracting(CommentInfo::getId)
+                    .containsExactly(nested.getId());
+        }
+
+        @Test
+        @DisplayName("댓글 목록 조회 - 답글이 많은 스레드도 앞쪽 답글만 붙인다")
+        @Timeout(30)
+        void readThreadsWithLargeThread() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment large = getComment(member, post);
+            Comment small = getComment(member, post);
+            List<Comment> replies = commentRepository.saveAll(IntStream.range(0, 2_000)
+                    .mapToObj(i -> Comment.builder()
+                            .content("답글" + i)
+                            .member(member)
+                            .post(post)
+                            .parent(large)
+                            .build())
+                    .collect(Collectors.toList()));
+            Comment smallReply = getReply(member, post, small);
+
+            // when
+            List<CommentInfo> threads = commentService.readMany(post.getId(), CommentReadRequest.builder().build())
+                    .getData();
+
+            // then
+            assertThat(threads).extracting(CommentInfo::getId).containsExactly(large.getId(), small.getId());
+            assertThat(threads.get(0).getReplyCount()).isEqualTo(2_000L);
+            assertThat(threads.get(0).getReplies()).extracting(CommentInfo::getId)
+                    .containsExactly(replies.get(0).getId(), replies.get(1).getId(), replies.get(2).getId());
+            assertThat(threads.get(0).getReplies().get(0).getWriter().getId()).isEqualTo(member.getId());
+            assertThat(threads.get(0).getReplies().get(0).getCreatedDate()).isNotNull();
+            assertThat(threads.get(0).getNextReplyCursor()).isNotNull();
+            assertThat(threads.get(1).getReplies()).extracting(CommentInfo::getId)
+                    .containsExactly(smallReply.getId());
+        }
+
+        @Test
+        @DisplayName("하위 댓글 전체 조회 - 깊이와 상관없이 부모 다음에 자식 순서로 조회")
+        void readSubtree() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment root = getComment(member, post);
+            Comment reply1 = getReply(member, post, root);
+            Comment reply2 = getReply(member, post, root);
+            Comment nested1 = getReply(member, post, reply1);
+            Comment nested2 = getReply(member, post, nested1);
+            Comment otherRoot = getComment(member, post);
+            getReply(member, post, otherRoot);
+
+            // when
+            PaginationResponse<CommentInfo> first = commentService.readSubtree(root.getId(), CommentReadRequest.builder()
+                    .size(3)
+                    .build());
+            PaginationResponse<CommentInfo> second = commentService.readSubtree(root.getId(), CommentReadRequest.builder()
+                    .cursor(first.getMeta().getNextCursor())
+                    .size(3)
+                    .build());
+
+            // then
+            assertThat(first.getData()).extracting(CommentInfo::getId)
+                    .containsExactly(reply1.getId(), nested1.getId(), nested2.getId());
+            assertThat(first.getMeta().getHasMore()).isTrue();
+            assertThat(second.getData()).extracting(CommentInfo::getId)
+                    .containsExactly(reply2.getId());
+            assertThat(second.getMeta().getHasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("댓글 목록 조회 - 스레드 전체 답글 수는 깊이와 상관없이 함께 센다")
+        void countRepliesByThread() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment root = getComment(member, post);
+            Comment reply = getReply(member, post, root);
+            getReply(member, post, getReply(member, post, reply));
+            getComment(member, post);
+
+            // when
+            List<CommentInfo> threads = commentService.readMany(post.getId(), CommentReadRequest.builder().build())
+                    .getData();
+
+            // then
+            assertThat(threads).extracting(CommentInfo::getThreadReplyCount)
+                    .containsExactly(3L, 0L);
+            assertThat(threads.get(0).getReplyCount()).isEqualTo(1L);
+            assertThat(threads.get(0).getReplies()).extracting(CommentInfo::getThreadReplyCount)
+                    .containsOnlyNulls();
+        }
+
+        @Test
+        @DisplayName("댓글 목록 조회 - 삭제된 댓글은 내용과 작성자를 가린 채 자리만 남고, 답글 수에서는 빠진다")
+        void readThreadsWithDeletedComments() {
+            // given
+            Member member = getMember();
+            Post post = getPost(member);
+            Comment root = getComment(member, post);
+            List<Comment> replies = IntStream.range(0, CommentThreadReader.REPLIES_PER_THREAD + 1)
+                    .mapToObj(i -> getReply(member, post, root))
+                    .collect(Collectors.toList());
+            Comment nested = getReply(member, post, replies.get(0));
+            commentService.delete(member.getId(), root.getId());
+            commentService.delete(member.getId(), replies.get(0).getId());
+            commentService.delete(member.getId(), replies.get(1).getId());
+
+            // when
+            CommentInfo thread = commentService.readMany(post.getId(), CommentReadRequest.builder().build())
+                    .getData()
+                    .get(0);
+            PaginationResponse<CommentInfo> rest = commentService.readReplies(root.getId(), CommentReadRequest.builder()
+                    .cursor(thread.getNextReplyCursor())
+                    .build());
+
+            // then
+            assertThat(thread.getDeleted()).isTrue();
+            assertThat(thread.getContent()).isNull();
+            assertThat(thread.getWriter()).isNull();
+            assertThat(thread.getReplyCount()).isEqualTo(2L);
+            assertThat(thread.getThreadReplyCount()).isEqualTo(3L);
+            assertThat(thread.getReplies()).extracting(CommentInfo::getDeleted)
+                    .containsExactly(true, true, false);
+            assertThat(thread.getReplies().get(0).getNextReplyCursor()).isNotNull();
+            assertThat(rest.getData()).extracting(CommentInfo::getId)
+                    .containsExactly(replies.get(3).getId());
+
+            assertThat(commentService.readSubtree(root.getId(), CommentReadRequest.builder().build()).getData())
+                    .extracting(CommentInfo::getId, CommentInfo::getContent)
+                    .startsWith(tuple(replies.get(0).getId(), null), tuple(nested.getId(), nested.getContent()));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 댓글의 하위 댓글을 조회하는 경우")
+        void readSubtreeNotExistComment() {
+            // expected
+            assertThatThrownBy(() -> commentService.readSubtree(1_000_000L, CommentReadRequest.builder().build()))
+                    .isInstanceOf(CommentNotFoundException.class);
+        }
+
+        private Comment getReply(Member member, Post post, Comment parent) {
+            return commentRepository.save(Comment.builder()
+                    .content("답글")
+                    .member(member)
+                    .post(post)
+                    .parent(parent)
+                    .build());
+        }
+    }
+}
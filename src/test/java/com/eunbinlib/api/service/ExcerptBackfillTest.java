@@ -0,0 +1,80 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.PostReadRequest;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.service.PostService;
+import com.eunbinlib.api.application.utils.BackfillRunner;
+import com.eunbinlib.api.application.utils.ExcerptBackfillJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcerptBackfillTest extends ServiceTest {
+
+    @Autowired
+    ExcerptBackfillJob excerptBackfillJob;
+
+    @Autowired
+    BackfillRunner backfillRunner;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("본문 앞부분이 비어 있는 글만 채워서 목록에 본문 앞부분이 보인다")
+    void backfillMissingExcerpt() {
+        // given
+        Member member = getMember();
+        Post shortPost = getPost(member);
+        Post longPost = postRepository.save(Post.builder()
+                .title("긴 글")
+                .content("가".repeat(Post.EXCERPT_LENGTH + 10))
+                .member(member)
+                .build());
+        Post filledPost = getPost(member);
+        jdbcTemplate.update("update post set excerpt = null where id <> ?", filledPost.getId());
+
+        // when
+        long filled = excerptBackfillJob.backfill().getProcessed();
+
+        // then
+        assertThat(filled).isEqualTo(2L);
+        assertThat(excerptBackfillJob.backfill().getProcessed()).isZero();
+
+        List<PostResponse> result = postService.readMany(member.getId(), PostReadRequest.builder().build()).getData();
+        assertThat(result).extracting(PostResponse::getId)
+                .containsExactly(filledPost.getId(), longPost.getId(), shortPost.getId());
+        assertThat(result.get(1).getContent()).isEqualTo("가".repeat(Post.EXCERPT_LENGTH));
+        assertThat(result.get(2).getContent()).isEqualTo(shortPost.getContent());
+    }
+
+    @Test
+    @DisplayName("실패 없이 끝난 backfill 은 완료 표시를 남기고, 다음부터는 id 범위를 다시 훑지 않는다")
+    void skipCompletedBackfill() throws Exception {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        jdbcTemplate.update("update post set excerpt = null");
+
+        // when
+        backfillRunner.runOnce(ExcerptBackfillJob.NAME, excerptBackfillJob::backfill).get(10, TimeUnit.SECONDS);
+        jdbcTemplate.update("update post set excerpt = null");
+        backfillRunner.runOnce(ExcerptBackfillJob.NAME, excerptBackfillJob::backfill).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(backfillRunner.isDone(ExcerptBackfillJob.NAME)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select excerpt from post where id = ?", String.class, post.getId()))
+                .isNull();
+    }
+}
@@ -0,0 +1,162 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.CommentCreateRequest;
+import com.eunbinlib.api.application.dto.request.PostUpdateRequest;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.PostDetailResponse;
+import com.eunbinlib.api.application.exception.type.notfound.PostNotFoundException;
+import com.eunbinlib.api.application.service.CommentService;
+import com.eunbinlib.api.application.service.PostService;
+import com.eunbinlib.api.application.utils.PostDetailCache;
+import com.eunbinlib.api.application.utils.ViewCountBuffer;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostDetailCacheTest extends ServiceTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    PostDetailCache postDetailCache;
+
+    @Autowired
+    ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    @DisplayName("두 번째 상세 조회부터는 캐시된 본문을 사용한다")
+    void readDetailFromCache() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        postService.readDetail(post.getId());
+
+        changeTitleWithoutEvent(post.getId(), "몰래 바꾼 제목");
+
+        // when
+        PostDetailResponse local = postService.readDetail(post.getId());
+        postDetailCache.clear();
+        PostDetailResponse remote = postService.readDetail(post.getId());
+
+        // then
+        assertThat(local.getPost().getTitle()).isEqualTo(post.getTitle());
+        assertThat(remote.getPost().getTitle()).isEqualTo(post.getTitle());
+        assertThat(remote.getPost().getCreatedDate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("조회수는 캐시된 본문과 상관없이 조회할 때마다 증가한다")
+    void overlayViewCount() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+
+        // when
+        PostDetailResponse first = postService.readDetail(post.getId());
+        PostDetailResponse second = postService.readDetail(post.getId());
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(first.getPost().getViewCount()).isEqualTo(1L);
+        assertThat(second.getPost().getViewCount()).isEqualTo(2L);
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getViewCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("카운터가 만료되면 캐시된 본문이 아니라 DB 값과 아직 반영하지 않은 증가분으로 다시 채운다")
+    void reseedCountersWithPendingDeltas() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        postService.readDetail(post.getId());
+        postService.likePost(member.getId(), post.getId(), true);
+        stringRedisTemplate.delete("postCounter:" + post.getId());
+
+        // when
+        PostDetailResponse result = postService.readDetail(post.getId());
+
+        // then
+        assertThat(result.getPost().getViewCount()).isEqualTo(2L);
+        assertThat(result.getPost().getLikeCount()).isEqualTo(1L);
+        assertThat(stringRedisTemplate.getExpire("postCounter:" + post.getId())).isPositive();
+    }
+
+    @Test
+    @DisplayName("글을 수정하거나 삭제하면 캐시된 상세 응답이 무효화된다")
+    void invalidateOnPostChanged() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        postService.readDetail(post.getId());
+
+        // when
+        postService.update(member.getId(), post.getId(), new PostUpdateRequest("새 제목", null, null, null));
+
+        // then
+        assertThat(postService.readDetail(post.getId()).getPost().getTitle()).isEqualTo("새 제목");
+
+        postService.delete(member.getId(), post.getId());
+        assertThatThrownBy(() -> postService.readDetail(post.getId()))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("댓글을 작성하면 캐시된 상세 응답이 무효화된다")
+    void invalidateOnCommentChanged() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        postService.readDetail(post.getId());
+
+        // when
+        commentService.create(member.getId(), new CommentCreateRequest("댓글", post.getId(), null));
+
+        // then
+        assertThat(postService.readDetail(post.getId()).getComments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 메모리 캐시의 항목을 지운다")
+    void invalidateOnRemoteMessage() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        postService.readDetail(post.getId());
+
+        // when
+        receive("K" + post.getId());
+        receive("Knot-a-post-id");
+
+        // then
+        assertThat(postDetailCache.size()).isZero();
+    }
+
+    private void changeTitleWithoutEvent(Long postId, String title) {
+        Post post = postRepository.findById(postId).orElseThrow();
+        post.updateTitleAndContent(title, null);
+        postRepository.save(post);
+    }
+
+    private void receive(String payload) {
+        String body = String.join("|", "otherNode", PostDetailCache.CHANNEL, payload);
+        cacheInvalidationBus.onMessage(new DefaultMessage(CacheInvalidationBus.TOPIC.getBytes(UTF_8), body.getBytes(UTF_8)), null);
+    }
+}
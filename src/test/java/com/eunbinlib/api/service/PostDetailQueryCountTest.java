@@ -0,0 +1,114 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.comment.Comment;
+import com.eunbinlib.api.application.domain.imagefile.BaseImageFile;
+import com.eunbinlib.api.application.domain.imagefile.PostImageFile;
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.CommentInfo;
+import com.eunbinlib.api.application.dto.response.postdetailresponse.PostDetailResponse;
+import com.eunbinlib.api.application.service.CommentThreadReader;
+import com.eunbinlib.api.application.service.PostDetailAssembler;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 글 상세 조립의 쿼리 수가 댓글, 답글, 사진 수와 상관없이 일정한지 Hibernate 통계로 확인한다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostDetailQueryCountTest extends ServiceTest {
+
+    @Autowired
+    PostDetailAssembler postDetailAssembler;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("글 상세는 댓글과 답글 수와 상관없이 네 번의 조회로 조립한다")
+    void assembleWithFixedQueries() {
+        // given
+        Member writer = getMemberWithProfileImage();
+        List<Member> commenters = List.of(getMember(), getMemberWithProfileImage(), getMember());
+
+        Post post = getPost(writer);
+        for (int i = 0; i < 3; i++) {
+            savePostImage(post, i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Member commenter = commenters.get(i % commenters.size());
+            Comment comment = getComment(commenter, post);
+            for (int j = 0; j < i % 5; j++) {
+                commentRepository.save(Comment.builder()
+                        .content("답글" + i + j)
+                        .member(writer)
+                        .post(post)
+                        .parent(comment)
+                        .build());
+            }
+        }
+
+        // when
+        statistics.clear();
+        PostDetailResponse result = postDetailAssembler.assemble(post.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+        assertThat(result.getPost().getWriter().getProfileImageUrl()).isEqualTo("profile.jpg");
+        assertThat(result.getPost().getPostImageUrls()).hasSize(3);
+        assertThat(result.getComments()).hasSize(10);
+        assertThat(result.getCommentsMeta().getHasMore()).isFalse();
+        assertThat(result.getComments().get(0).getWriter().getId()).isEqualTo(commenters.get(0).getId());
+        assertThat(result.getComments().get(0).getWriter().getProfileImageUrl()).isEqualTo("default_profile");
+        assertThat(result.getComments().get(0).getReplies()).isEmpty();
+        assertThat(result.getComments().get(0).getNextReplyCursor()).isNull();
+
+        CommentInfo longThread = result.getComments().get(4);
+        assertThat(longThread.getReplyCount()).isEqualTo(4L);
+        assertThat(longThread.getReplies()).hasSize(CommentThreadReader.REPLIES_PER_THREAD);
+        assertThat(longThread.getNextReplyCursor()).isNotNull();
+    }
+
+    private Member getMemberWithProfileImage() {
+        Member member = getMember();
+        member.update(null, BaseImageFile.builder()
+                .originalFilename("origin.jpg")
+                .storedFilename("profile.jpg")
+                .contentType(MediaType.IMAGE_JPEG_VALUE)
+                .byteSize(10L)
+                .build());
+
+        return memberRepository.save(member);
+    }
+
+    private void savePostImage(Post post, int index) {
+        postImageFileRepository.save(PostImageFile.builder()
+                .baseImageFile(BaseImageFile.builder()
+                        .originalFilename(index + "origin.jpg")
+                        .storedFilename(index + "stored.jpg")
+                        .contentType(MediaType.IMAGE_JPEG_VALUE)
+                        .byteSize(10L)
+                        .build())
+                .post(post)
+                .build());
+    }
+}
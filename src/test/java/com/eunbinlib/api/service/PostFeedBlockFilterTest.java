@@ -0,0 +1,79 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.block.Block;
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.PostReadRequest;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 차단 목록을 not in 조건으로 넘기지 않고 메모리에서 걸러내는 경로를 확인한다.
+ */
+@TestPropertySource(properties = "post.feed.max-bound-block-ids=0")
+class PostFeedBlockFilterTest extends ServiceTest {
+
+    @Autowired
+    PostService postService;
+
+    @Test
+    @DisplayName("차단한 회원의 글을 메모리에서 걸러내도 페이지를 가득 채워서 끝까지 조회한다")
+    void fillPagesWhileFilteringBlockedMembers() {
+        // given
+        Member member1 = getMember();
+        Member member2 = getMember();
+
+        List<Post> requestPosts = IntStream.range(0, 30)
+                .mapToObj(i ->
+                        Post.builder()
+                                .title("제목" + i)
+                                .content("내용" + i)
+                                .member(i % 3 == 0 ? member1 : member2)
+                                .build()
+                )
+                .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        blockRepository.save(Block.builder()
+                .blocker(member1)
+                .blocked(member2)
+                .build());
+
+        // when
+        List<PaginationResponse<PostResponse>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginationResponse<PostResponse> page = postService.readMany(member1.getId(), PostReadRequest.builder()
+                    .cursor(cursor)
+                    .size(4)
+                    .build());
+            pages.add(page);
+            cursor = page.getMeta().getNextCursor();
+        } while (cursor != null);
+
+        // then
+        List<String> titles = pages.stream()
+                .flatMap(page -> page.getData().stream())
+                .map(PostResponse::getTitle)
+                .collect(Collectors.toList());
+
+        assertThat(pages).hasSize(3);
+        assertThat(pages.get(0).getMeta().getSize()).isEqualTo(4);
+        assertThat(pages.get(1).getMeta().getSize()).isEqualTo(4);
+        assertThat(pages.get(2).getMeta().getHasMore()).isFalse();
+        assertThat(titles).containsExactly("제목27", "제목24", "제목21", "제목18", "제목15",
+                "제목12", "제목9", "제목6", "제목3", "제목0");
+    }
+}
@@ -0,0 +1,86 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.postlike.PostLike;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.PostReadRequest;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.service.PostService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회의 쿼리 수가 페이지 크기와 상관없이 일정한지 Hibernate 통계로 확인한다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostFeedQueryCountTest extends ServiceTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("좋아요 여부는 페이지 크기와 상관없이 한 번의 조회로 채운다")
+    void likedByMeWithConstantQueries() {
+        // given
+        Member writer = getMember();
+        Member member = getMember();
+        List<Post> posts = IntStream.range(0, 30)
+                .mapToObj(i -> getPost(writer))
+                .collect(Collectors.toList());
+        posts.stream()
+                .filter(post -> post.getId() % 2 == 0)
+                .forEach(post -> postLikeRepository.save(PostLike.builder()
+                        .member(member)
+                        .post(post)
+                        .build()));
+
+        readPage(member, 1);
+
+        // when
+        long smallPageQueries = countQueries(() -> readPage(member, 5));
+        long largePageQueries = countQueries(() -> readPage(member, 20));
+
+        // then
+        assertThat(smallPageQueries).isEqualTo(largePageQueries);
+        assertThat(largePageQueries).isEqualTo(2L);
+
+        PaginationResponse<PostResponse> result = readPage(member, 20);
+        assertThat(result.getData()).allSatisfy(post ->
+                assertThat(post.isLikedByMe()).isEqualTo(post.getId() % 2 == 0));
+    }
+
+    private PaginationResponse<PostResponse> readPage(Member member, int size) {
+        return postService.readMany(member.getId(), PostReadRequest.builder()
+                .size(size)
+                .build());
+    }
+
+    private long countQueries(Runnable runnable) {
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
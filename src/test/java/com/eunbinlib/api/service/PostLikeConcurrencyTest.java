@@ -0,0 +1,123 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.exception.type.notfound.PostNotFoundException;
+import com.eunbinlib.api.application.service.PostService;
+import com.eunbinlib.api.application.utils.LikeCountBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostLikeConcurrencyTest extends ServiceTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    LikeCountBuffer likeCountBuffer;
+
+    @Test
+    @DisplayName("같은 회원의 좋아요 요청이 동시에 들어와도 좋아요는 하나만 추가된다")
+    void concurrentLikeBySameMember() throws Exception {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+
+        // when
+        runConcurrently(THREADS, i -> postService.likePost(member.getId(), post.getId(), true));
+        likeCountBuffer.flush();
+
+        // then
+        assertThat(postLikeRepository.count()).isEqualTo(1L);
+        assertThat(likeCount(post)).isEqualTo(1L);
+
+        runConcurrently(THREADS, i -> postService.likePost(member.getId(), post.getId(), false));
+        likeCountBuffer.flush();
+
+        assertThat(postLikeRepository.count()).isZero();
+        assertThat(likeCount(post)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 회원이 같은 글에 좋아요를 반복해서 토글해도 좋아요 수는 좋아요 행 수와 같다")
+    void concurrentToggle() throws Exception {
+        // given
+        Post post = getPost(getMember());
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < THREADS / 2; i++) {
+            members.add(getMember());
+        }
+
+        // when
+        runConcurrently(THREADS, i -> {
+            Member member = members.get(i % members.size());
+            Random random = new Random(i);
+            for (int j = 0; j < 50; j++) {
+                postService.likePost(member.getId(), post.getId(), random.nextBoolean());
+            }
+        });
+        likeCountBuffer.flush();
+
+        // then
+        long likes = postLikeRepository.count();
+        assertThat(likes).isLessThanOrEqualTo(members.size());
+        assertThat(likeCount(post)).isEqualTo(likes);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 글에 좋아요를 요청하는 경우")
+    void likeNotExistingPost() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+
+        // expected
+        assertThatThrownBy(() -> postService.likePost(member.getId(), post.getId() + 1L, true))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    private long likeCount(Post post) {
+        return postRepository.findById(post.getId()).orElseThrow().getLikeCount();
+    }
+
+    private void runConcurrently(int threads, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(index);
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface Task {
+
+        void run(int index);
+    }
+}
@@ -0,0 +1,158 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.block.Block;
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.PostCreateRequest;
+import com.eunbinlib.api.application.dto.request.PostSearchRequest;
+import com.eunbinlib.api.application.dto.request.PostUpdateRequest;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.search.PostSearchIndexer;
+import com.eunbinlib.api.application.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchTest extends ServiceTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostSearchIndexer postSearchIndexer;
+
+    @Test
+    @DisplayName("작성, 수정, 삭제한 글이 바로 검색 결과에 반영된다")
+    void searchReflectsChanges() {
+        // given
+        Member member = getMember();
+        Long first = createPost(member, "도서관 이용 안내", "평일 9시에 엽니다");
+        Long second = createPost(member, "동네 도서관 후기", "조용해요");
+        Long third = createPost(member, "맛집 추천", "도서관 옆 식당");
+
+        // when
+        postService.update(member.getId(), second, new PostUpdateRequest("동네 카페 후기", null, null, null));
+        postService.delete(member.getId(), first);
+
+        // then
+        assertThat(search(member, "도서관", null, 10).getData())
+                .extracting(PostResponse::getId)
+                .containsExactly(third);
+        assertThat(search(member, "카페", null, 10).getData())
+                .extracting(PostResponse::getId)
+                .containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("검색 결과를 커서로 나누어 읽고, 차단한 회원의 글은 제외한다")
+    void searchWithCursorExcludingBlocked() {
+        // given
+        Member member = getMember();
+        Member blocked = getMember();
+        Long first = createPost(member, "자바 스터디 1기", "모집");
+        createPost(blocked, "자바 스터디 2기", "모집");
+        Long third = createPost(member, "자바 스터디 3기", "모집");
+        Long fourth = createPost(member, "자바 스터디 4기", "모집");
+
+        blockRepository.save(Block.builder()
+                .blocker(member)
+                .blocked(blocked)
+                .build());
+
+        // when
+        PaginationResponse<PostResponse> page1 = search(member, "자바 스터디", null, 2);
+        PaginationResponse<PostResponse> page2 = search(member, "자바 스터디", page1.getMeta().getNextCursor(), 2);
+
+        // then
+        assertThat(page1.getData()).extracting(PostResponse::getId).containsExactly(fourth, third);
+        assertThat(page1.getMeta().getHasMore()).isTrue();
+        assertThat(page2.getData()).extracting(PostResponse::getId).containsExactly(first);
+        assertThat(page2.getMeta().getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("색인에 남은 삭제된 글을 건너뛰고 페이지를 채우며, 다음 페이지가 있는지 바르게 알린다")
+    void searchSkippingStaleIndexEntries() {
+        // given
+        Member member = getMember();
+        Long first = createPost(member, "독서 모임 1회", "소설");
+        Long second = createPost(member, "독서 모임 2회", "시집");
+        Long third = createPost(member, "독서 모임 3회", "에세이");
+        List<Long> stale = List.of(
+                createPost(member, "독서 모임 4회", "취소"),
+                createPost(member, "독서 모임 5회", "취소"),
+                createPost(member, "독서 모임 6회", "취소"));
+        for (Long postId : stale) {
+            Post post = postRepository.findById(postId).orElseThrow();
+            post.delete();
+            postRepository.save(post);
+        }
+
+        // when
+        PaginationResponse<PostResponse> page1 = search(member, "독서 모임", null, 2);
+        PaginationResponse<PostResponse> page2 = search(member, "독서 모임", page1.getMeta().getNextCursor(), 2);
+
+        // then
+        assertThat(page1.getData()).extracting(PostResponse::getId).containsExactly(third, second);
+        assertThat(page1.getMeta().getHasMore()).isTrue();
+        assertThat(page2.getData()).extracting(PostResponse::getId).containsExactly(first);
+        assertThat(page2.getMeta().getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("색인을 다시 만들면 DB 의 글로 색인을 채운다")
+    void rebuild() {
+        // given
+        Member member = getMember();
+        List<Post> posts = postRepository.saveAll(List.of(
+                Post.builder().title("봄 여행").content("벚꽃").member(member).build(),
+                Post.builder().title("여름 여행").content("바다").member(member).build()
+        ));
+
+        // when
+        postSearchIndexer.rebuild();
+
+        // then
+        assertThat(search(member, "여행", null, 10).getData())
+                .extracting(PostResponse::getId)
+                .containsExactly(posts.get(1).getId(), posts.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("변경 알림이 빠진 글도 주기적으로 따라잡아 색인에 반영한다")
+    void catchUpMissedChanges() {
+        // given
+        Member member = getMember();
+        Long deleted = createPost(member, "겨울 여행", "눈");
+        Post missed = postRepository.save(Post.builder().title("가을 여행").content("단풍").member(member).build());
+        Post post = postRepository.findById(deleted).orElseThrow();
+        post.delete();
+        postRepository.save(post);
+
+        // when
+        int caughtUp = postSearchIndexer.catchUp();
+
+        // then
+        assertThat(caughtUp).isGreaterThanOrEqualTo(2);
+        assertThat(search(member, "여행", null, 10).getData())
+                .extracting(PostResponse::getId)
+                .containsExactly(missed.getId());
+    }
+
+    private Long createPost(Member member, String title, String content) {
+        return postService.create(member.getId(), new PostCreateRequest(title, content, null)).getId();
+    }
+
+    private PaginationResponse<PostResponse> search(Member member, String query, String cursor, int size) {
+        return postService.search(member.getId(), PostSearchRequest.builder()
+                .query(query)
+                .cursor(cursor)
+                .size(size)
+                .build());
+    }
+}
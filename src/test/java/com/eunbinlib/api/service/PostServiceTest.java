@@ -17,6 +17,7 @@ import com.eunbinlib.api.application.dto.response.PaginationResponse;
 import com.eunbinlib.api.application.dto.response.PostResponse;
 import com.eunbinlib.api.application.dto.response.postdetailresponse.PostDetailResponse;
 import com.eunbinlib.api.application.exception.type.ForbiddenAccessException;
+import com.eunbinlib.api.application.exception.type.InvalidRequestException;
 import com.eunbinlib.api.application.exception.type.notfound.PostNotFoundException;
 import com.eunbinlib.api.application.service.PostService;
 import lombok.extern.slf4j.Slf4j;
@@ -397,6 +398,62 @@ class PostServiceTest extends ServiceTest {
             assertThat(data.get(data.size() - 1).getContent()).isEqualTo("내용0");
         }
 
+        @Test
+        @DisplayName("글 페이지네이션 조회 - 응답의 커서로 다음 페이지를 끝까지 조회")
+        void readManyWithCursor() {
+            // given
+            Member member = getMember();
+            List<Post> requestPosts = IntStream.range(0, 12)
+                    .mapToObj(i ->
+                            Post.builder()
+                                    .title("제목" + i)
+                                    .content("내용" + i)
+                                    .member(member)
+                                    .build()
+                    )
+                    .collect(Collectors.toList());
+            postRepository.saveAll(requestPosts);
+
+            PaginationMeta firstMeta = postService.readMany(member.getId(), PostReadRequest.builder()
+                            .size(5)
+                            .build())
+                    .getMeta();
+
+            // when
+            PaginationResponse<PostResponse> second = postService.readMany(member.getId(), PostReadRequest.builder()
+                    .cursor(firstMeta.getNextCursor())
+                    .size(5)
+                    .build());
+            PaginationResponse<PostResponse> third = postService.readMany(member.getId(), PostReadRequest.builder()
+                    .cursor(second.getMeta().getNextCursor())
+                    .size(5)
+                    .build());
+
+            // then
+            assertThat(firstMeta.getNextCursor()).isNotNull();
+            assertThat(second.getData().get(0).getTitle()).isEqualTo("제목6");
+            assertThat(second.getMeta().getHasMore()).isEqualTo(true);
+            assertThat(third.getMeta().getSize()).isEqualTo(2);
+            assertThat(third.getMeta().getHasMore()).isEqualTo(false);
+            assertThat(third.getMeta().getNextCursor()).isNull();
+            assertThat(third.getData().get(1).getTitle()).isEqualTo("제목0");
+        }
+
+        @Test
+        @DisplayName("글 페이지네이션 조회 - 잘못된 커서")
+        void readManyInvalidCursor() {
+            // given
+            Member member = getMember();
+
+            PostReadRequest postReadRequest = PostReadRequest.builder()
+                    .cursor("not-a-cursor")
+                    .build();
+
+            // expected
+            assertThatThrownBy(() -> postService.readMany(member.getId(), postReadRequest))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+
         @Test
         @DisplayName("글 페이지네이션 조회 - 삭제된 게시글을 제외하고 조회하는 경우")
         void readManyMixedDeletedPosts() {
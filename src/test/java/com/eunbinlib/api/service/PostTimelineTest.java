@@ -0,0 +1,162 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.repository.post.PostSummary;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.PostCreateRequest;
+import com.eunbinlib.api.application.dto.request.PostReadRequest;
+import com.eunbinlib.api.application.dto.request.PostUpdateRequest;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.service.PostService;
+import com.eunbinlib.api.application.timeline.MemoryTimelineStore;
+import com.eunbinlib.api.application.timeline.PostTimeline;
+import com.eunbinlib.api.application.timeline.RedisTimelineStore;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostTimelineTest extends ServiceTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostTimeline postTimeline;
+
+    @Autowired
+    MemoryTimelineStore memoryTimelineStore;
+
+    @Autowired
+    CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("작성, 수정, 삭제한 글이 타임라인에 반영된다")
+    void followPostChanges() {
+        // given
+        Member member = getMember();
+        List<Long> postIds = IntStream.range(0, 6)
+                .mapToObj(i -> postService.create(member.getId(), new PostCreateRequest("제목" + i, "내용" + i, null)).getId())
+                .collect(Collectors.toList());
+
+        // when
+        postService.update(member.getId(), postIds.get(5), new PostUpdateRequest("새 제목", null, null, null));
+        postService.delete(member.getId(), postIds.get(4));
+
+        // then
+        assertThat(memoryTimelineStore.size()).isEqualTo(5);
+
+        PaginationResponse<PostResponse> result = postService.readMany(member.getId(), PostReadRequest.builder()
+                .size(3)
+                .build());
+        assertThat(result.getData()).extracting(PostResponse::getTitle)
+                .containsExactly("새 제목", "제목3", "제목2");
+        assertThat(result.getMeta().getHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("타임라인으로 채울 수 없는 페이지는 DB 에서 조회한다")
+    void fallbackToDatabase() {
+        // given
+        Member member = getMember();
+        IntStream.range(0, 3)
+                .forEach(i -> postService.create(member.getId(), new PostCreateRequest("제목" + i, "내용" + i, null)));
+        postTimeline.clear();
+        postService.create(member.getId(), new PostCreateRequest("제목3", "내용3", null));
+
+        // when
+        PaginationResponse<PostResponse> result = postService.readMany(member.getId(), PostReadRequest.builder()
+                .size(3)
+                .build());
+
+        // then
+        assertThat(result.getData()).extracting(PostResponse::getTitle)
+                .containsExactly("제목3", "제목2", "제목1");
+        assertThat(result.getMeta().getHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작할 때 DB 의 최신 글로 타임라인을 채운다")
+    void warmUp() {
+        // given
+        Member member = getMember();
+        getPost(member);
+        getPost(member);
+
+        // when
+        postTimeline.warmUp();
+
+        // then
+        assertThat(memoryTimelineStore.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("공유 타임라인이 이미 채워져 있으면 시작할 때 다시 만들지 않는다")
+    void skipWarmUpOfPopulatedSharedTimeline() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        RedisTimelineStore sharedStore = new RedisTimelineStore(stringRedisTemplate, objectMapper, 10);
+        PostTimeline timeline = new PostTimeline(sharedStore, postRepository, mock(CacheInvalidationBus.class), 10);
+        sharedStore.replaceAll(List.of(new PostSummary(post.getId(), member.getId(), "다른 노드가 반영한 제목", null, 0L)));
+
+        // when
+        timeline.warmUp();
+
+        // then
+        assertThat(sharedStore.read(null, 1, memberId -> false).orElseThrow())
+                .extracting(PostSummary::getTitle)
+                .containsExactly("다른 노드가 반영한 제목");
+
+        // when
+        sharedStore.replaceAll(List.of());
+        timeline.warmUp();
+
+        // then
+        assertThat(sharedStore.read(null, 1, memberId -> false).orElseThrow())
+                .extracting(PostSummary::getTitle)
+                .containsExactly(post.getTitle());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 알림을 받으면 해당 글을 다시 읽어 반영한다")
+    void applyRemoteChange() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+
+        // when
+        receive("K" + post.getId());
+        receive("Knot-a-post-id");
+
+        // then
+        assertThat(memoryTimelineStore.size()).isEqualTo(1);
+
+        getPost(member);
+        receive("C");
+        assertThat(memoryTimelineStore.size()).isEqualTo(2);
+    }
+
+    private void receive(String payload) {
+        String body = String.join("|", "otherNode", PostTimeline.CHANNEL, payload);
+        cacheInvalidationBus.onMessage(new DefaultMessage(CacheInvalidationBus.TOPIC.getBytes(UTF_8), body.getBytes(UTF_8)), null);
+    }
+}
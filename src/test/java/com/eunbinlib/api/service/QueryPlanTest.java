@@ -0,0 +1,282 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.block.Block;
+import com.eunbinlib.api.application.domain.comment.Comment;
+import com.eunbinlib.api.application.domain.imagefile.BaseImageFile;
+import com.eunbinlib.api.application.domain.imagefile.PostImageFile;
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.post.PostState;
+import com.eunbinlib.api.application.domain.postlike.PostLike;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.testutils.StatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 쿼리가 테이블 전체를 읽지 않고 인덱스로 찾는지 H2 의 실행 계획(EXPLAIN)으로 확인한다.
+ * Hibernate 가 실제로 만든 SQL 을 모아서 확인하므로, 쿼리나 인덱스가 바뀌어 전체 스캔이 되면 실패한다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.eunbinlib.api.testutils.StatementRecorder")
+class QueryPlanTest extends ServiceTest {
+
+    private static final int MEMBER_COUNT = 20;
+
+    private static final int POST_COUNT = 1000;
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan \\*/(\\s*/\\* direct lookup \\*/)?");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private List<Member> members;
+
+    private List<Post> posts;
+
+    private List<Comment> roots;
+
+    private List<Comment> replies;
+
+    @BeforeEach
+    void seed() {
+        members = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> getMember())
+                .collect(Collectors.toList());
+
+        posts = postRepository.saveAll(IntStream.range(0, POST_COUNT)
+                .mapToObj(i -> Post.builder()
+                        .title("제목" + i)
+                        .content("내용" + i)
+                        .member(members.get(i % MEMBER_COUNT))
+                        .build())
+                .collect(Collectors.toList()));
+
+        roots = commentRepository.saveAll(posts.stream()
+                .map(post -> Comment.builder()
+                        .content("댓글")
+                        .member(members.get(0))
+                        .post(post)
+                        .build())
+                .collect(Collectors.toList()));
+
+        replies = commentRepository.saveAll(roots.stream()
+                .limit(POST_COUNT / 2)
+                .map(root -> Comment.builder()
+                        .content("답글")
+                        .member(members.get(1))
+                        .post(root.getPost())
+                        .parent(root)
+                        .build())
+                .collect(Collectors.toList()));
+
+        List<PostLike> likes = new ArrayList<>();
+        List<PostImageFile> images = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT / 2; i++) {
+            likes.add(PostLike.builder()
+                    .member(members.get(i % MEMBER_COUNT))
+                    .post(posts.get(i))
+                    .build());
+            images.add(PostImageFile.builder()
+                    .baseImageFile(BaseImageFile.builder()
+                            .originalFilename(i + "origin.jpg")
+                            .storedFilename(i + "stored.jpg")
+                            .contentType(MediaType.IMAGE_JPEG_VALUE)
+                            .byteSize(10L)
+                            .build())
+                    .post(posts.get(i))
+                    .build());
+        }
+        postLikeRepository.saveAll(likes);
+        postImageFileRepository.saveAll(images);
+
+        blockRepository.saveAll(members.stream()
+                .skip(1)
+                .map(blocked -> Block.builder()
+                        .blocker(members.get(0))
+                        .blocked(blocked)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("인덱스가 없는 조건은 전체 스캔으로 판정한다")
+    void detectFullScan() {
+        // expected
+        assertThat(isFullScan(explain("select * from post where title = ?"))).isTrue();
+        assertThat(isFullScan(explain("select * from post where id = ?"))).isFalse();
+        assertThat(isFullScan(explain("select max(id) from post"))).isFalse();
+        assertThat(isFullScan(explain("select (select max(id) from post), title from post where title = ?"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("글, 좋아요, 글 사진 쿼리는 인덱스로 찾는다")
+    void postQueries() {
+        // given
+        Long postId = posts.get(POST_COUNT / 2).getId();
+        Long memberId = members.get(0).getId();
+        List<Long> postIds = posts.subList(0, 20).stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        List<Long> excludedMemberIds = List.of(members.get(1).getId(), members.get(2).getId());
+
+        // expected
+        assertIndexed(() -> postRepository.findById(postId));
+        assertIndexed(() -> postRepository.findWithImagesByIdAndState(posts.get(0).getId(), PostState.NORMAL));
+        assertIndexed(() -> postRepository.findFeed(null, List.of(), 21));
+        assertIndexed(() -> postRepository.findFeed(postId, excludedMemberIds, 21));
+        assertIndexed(() -> postRepository.findSummary(postId));
+        assertIndexed(() -> postRepository.findSummaries(postIds));
+        assertIndexed(() -> postRepository.findDetailRow(postId));
+        assertIndexed(() -> postRepository.findSearchRows(null, 500));
+        assertIndexed(() -> postRepository.findSearchRows(postId, 500));
+        assertIndexed(() -> postRepository.findSearchRow(postId));
+        assertIndexed(() -> postRepository.findSearchRowsByIds(postIds));
+        assertIndexed(() -> postRepository.findIdsModifiedSince(LocalDateTime.now().minusMinutes(1)));
+        assertIndexed(() -> postRepository.addViewCount(1L, postIds));
+        assertIndexed(() -> postRepository.addLikeCount(1L, postIds));
+        assertIndexed(() -> postRepository.addCommentCount(postId, 1L));
+        assertIndexed(() -> postRepository.findMaxId());
+        assertIndexed(() -> postRepository.repairCommentCount(0L, 1000L));
+        assertIndexed(() -> postRepository.findContentsWithoutExcerpt(0L, 1000L));
+        assertIndexed(() -> postRepository.fillExcerpt(postId, "내용"));
+
+        assertIndexed(() -> postLikeRepository.findByMemberIdAndPostId(memberId, postId));
+        assertIndexed(() -> postLikeRepository.findLikedPostIds(memberId, postIds));
+        assertIndexed(() -> postLikeRepository.insertIfAbsent(memberId, postId));
+        assertIndexed(() -> postLikeRepository.deleteIfPresent(memberId, postId));
+
+        assertIndexed(() -> postImageFileRepository.getList(21L, null));
+        assertIndexed(() -> postImageFileRepository.getList(21L, postId));
+        assertIndexed(() -> postImageFileRepository.findAllByPostId(posts.get(0).getId()));
+        assertIndexed(() -> postImageFileRepository.findStoredFilenamesByPostId(posts.get(0).getId()));
+    }
+
+    @Test
+    @DisplayName("댓글 쿼리는 인덱스로 찾는다")
+    void commentQueries() {
+        // given
+        Comment root = roots.get(0);
+        Comment reply = replies.get(0);
+        List<Long> rootIds = roots.subList(0, 20).stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+
+        // expected
+        assertIndexed(() -> commentRepository.findById(root.getId()));
+        assertIndexed(() -> commentRepository.findPathById(root.getId()));
+        assertIndexed(() -> commentRepository.findRootRows(root.getPost().getId(), null, 21));
+        assertIndexed(() -> commentRepository.findRootRows(root.getPost().getId(), root.getId(), 21));
+        assertIndexed(() -> commentRepository.findReplyRows(root.getId(), null, 21));
+        assertIndexed(() -> commentRepository.findReplyRows(root.getId(), reply.getId(), 21));
+        assertIndexed(() -> commentRepository.findFirstReplyRows(rootIds, 3));
+        assertIndexed(() -> commentRepository.findSubtreeRows(root.getPath(), null, 21));
+        assertIndexed(() -> commentRepository.findSubtreeRows(root.getPath(), reply.getId(), 21));
+        assertIndexed(() -> commentRepository.findMaxId());
+        assertIndexed(() -> commentRepository.findRowsWithoutPath(0L, 1000L));
+        assertIndexed(() -> commentRepository.fillPath(root.getId(), root.getPath(), root.getThreadId()));
+    }
+
+    @Test
+    @DisplayName("회원과 차단 쿼리는 인덱스로 찾는다")
+    void userQueries() {
+        // given
+        Member blocker = members.get(0);
+        Member blocked = members.get(1);
+
+        // expected
+        assertIndexed(() -> userRepository.findByUsername(blocker.getUsername()));
+        assertIndexed(() -> memberRepository.findByUsername(blocker.getUsername()));
+        assertIndexed(() -> userRepository.updatePasswordIfUnchanged(blocker.getId(), blocker.getPassword(), "newPassword"));
+
+        assertIndexed(() -> blockRepository.findByBlockerAndBlocked(blocker, blocked));
+        assertIndexed(() -> blockRepository.existsByBlockerAndBlocked(blocker, blocked));
+        assertIndexed(() -> blockRepository.findBlockedIdsByBlockerId(blocker.getId()));
+        assertIndexed(() -> blockRepository.deleteByBlockerAndBlocked(blocker, blocked));
+    }
+
+    /**
+     * 쿼리를 실행하고 flush 까지 하는 동안 실행된 SQL 의 실행 계획을 하나씩 확인한다.
+     * 트랜잭션 안에서만 있는 임시 테이블을 쓰는 SQL 도 있으므로 같은 트랜잭션 안에서 확인한다.
+     * 값을 넣는 insert 는 테이블을 읽지 않으므로 건너뛴다.
+     */
+    private void assertIndexed(Runnable query) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> statements = StatementRecorder.record(() -> {
+                query.run();
+                entityManager.flush();
+            });
+
+            assertThat(statements).isNotEmpty();
+            for (String sql : statements) {
+                if (readsRows(sql)) {
+                    String plan = explain(sql);
+                    assertThat(isFullScan(plan)).as("전체 스캔: %s", plan).isFalse();
+                }
+            }
+        });
+    }
+
+    /**
+     * 실행 계획은 값과 상관없이 만들어지므로 모든 파라미터에 같은 값을 넣는다.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatementCallback<String>) statement -> {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setString(i, "1");
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    private static boolean readsRows(String sql) {
+        String lower = sql.trim().toLowerCase();
+        return lower.startsWith("select")
+                || lower.startsWith("update")
+                || lower.startsWith("delete")
+                || lower.startsWith("insert") && lower.contains(" select ");
+    }
+
+    /**
+     * max(id) 처럼 인덱스 끝 값만 읽는 집계는 tableScan 바로 뒤에 direct lookup 이 붙으므로 그 테이블만 제외한다.
+     * 상속 테이블을 일괄 변경할 때 Hibernate 가 만드는 임시 id 테이블(HT_)은 대상 id 만 담으므로 제외한다.
+     */
+    private static boolean isFullScan(String plan) {
+        Matcher matcher = TABLE_SCAN.matcher(plan);
+        while (matcher.find()) {
+            if (matcher.group(2) == null && !matcher.group(1).startsWith("HT_")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
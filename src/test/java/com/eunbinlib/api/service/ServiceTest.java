@@ -12,9 +12,15 @@ import com.eunbinlib.api.application.domain.repository.user.MemberRepository;
 import com.eunbinlib.api.application.domain.repository.user.UserRepository;
 import com.eunbinlib.api.application.domain.user.Guest;
 import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.search.PostSearchIndex;
+import com.eunbinlib.api.application.timeline.PostTimeline;
+import com.eunbinlib.api.application.trending.TrendingPosts;
+import com.eunbinlib.api.application.utils.PostDetailCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 @SpringBootTest
 public abstract class ServiceTest {
@@ -43,10 +49,33 @@ public abstract class ServiceTest {
     @Autowired
     private DatabaseCleaner databaseCleaner;
 
+    @Autowired
+    private PostTimeline postTimeline;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private TrendingPosts trendingPosts;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @BeforeEach
     void setUp() {
         databaseCleaner.afterPropertiesSet();
         databaseCleaner.execute();
+        postTimeline.clear();
+        postDetailCache.clear();
+        postSearchIndex.clear();
+        trendingPosts.clear();
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
     }
 
     protected Member getMember() {
@@ -0,0 +1,221 @@
+package com.eunbinlib.api.service;
+
+import com.eunbinlib.api.application.domain.block.Block;
+import com.eunbinlib.api.application.domain.post.Post;
+import com.eunbinlib.api.application.domain.user.Member;
+import com.eunbinlib.api.application.dto.request.CommentCreateRequest;
+import com.eunbinlib.api.application.dto.request.PostTrendingRequest;
+import com.eunbinlib.api.application.dto.response.PaginationResponse;
+import com.eunbinlib.api.application.dto.response.PostResponse;
+import com.eunbinlib.api.application.service.CommentService;
+import com.eunbinlib.api.application.service.PostService;
+import com.eunbinlib.api.application.service.TrendingPostService;
+import com.eunbinlib.api.application.trending.TrendingPosts;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingPostTest extends ServiceTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    TrendingPostService trendingPostService;
+
+    @Autowired
+    TrendingPosts trendingPosts;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("조회, 좋아요, 댓글을 가중치대로 더한 점수가 높은 글부터 내려준다")
+    void rankByWeightedEvents() {
+        // given
+        Member member = getMember();
+        Post viewed = getPost(member);
+        Post liked = getPost(member);
+        Post commented = getPost(member);
+
+        // when
+        postService.readDetail(viewed.getId());
+        postService.readDetail(viewed.getId());
+        postService.likePost(member.getId(), liked.getId(), true);
+        commentService.create(member.getId(), new CommentCreateRequest("댓글", commented.getId(), null));
+
+        // then
+        assertThat(readTrending(member, null, 10).getData())
+                .extracting(PostResponse::getId)
+                .containsExactly(liked.getId(), commented.getId(), viewed.getId());
+    }
+
+    @Test
+    @DisplayName("순위를 커서로 나누어 읽고, 차단한 회원의 글과 삭제된 글은 제외한다")
+    void readWithCursorExcludingBlockedAndDeleted() {
+        // given
+        Member member = getMember();
+        Member blocked = getMember();
+        Post first = getPost(member);
+        Post second = getPost(blocked);
+        Post third = getPost(member);
+        Post fourth = getPost(member);
+        Post deleted = getPost(member);
+
+        trendingPosts.recordComment(first.getId());
+        trendingPosts.recordComment(first.getId());
+        trendingPosts.recordComment(first.getId());
+        trendingPosts.recordComment(second.getId());
+        trendingPosts.recordComment(second.getId());
+        trendingPosts.recordComment(third.getId());
+        trendingPosts.recordView(fourth.getId());
+        trendingPosts.recordComment(deleted.getId());
+        trendingPosts.recordComment(deleted.getId());
+        trendingPosts.recordComment(deleted.getId());
+        trendingPosts.recordComment(deleted.getId());
+        postService.delete(member.getId(), deleted.getId());
+
+        blockRepository.save(Block.builder()
+                .blocker(member)
+                .blocked(blocked)
+                .build());
+
+        // when
+        PaginationResponse<PostResponse> page1 = readTrending(member, null, 2);
+        PaginationResponse<PostResponse> page2 = readTrending(member, page1.getMeta().getNextCursor(), 2);
+
+        // then
+        assertThat(page1.getData()).extracting(PostResponse::getId).containsExactly(first.getId(), third.getId());
+        assertThat(page1.getMeta().getHasMore()).isTrue();
+        assertThat(page2.getData()).extracting(PostResponse::getId).containsExactly(fourth.getId());
+        assertThat(page2.getMeta().getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("크기가 0 이하이면 한 건씩 읽는다")
+    @Timeout(10)
+    void readWithNonPositiveSize() {
+        // given
+        Member member = getMember();
+        Post first = getPost(member);
+        Post second = getPost(member);
+        trendingPosts.recordComment(first.getId());
+        trendingPosts.recordView(second.getId());
+
+        // when
+        PaginationResponse<PostResponse> zero = readTrending(member, null, 0);
+        PaginationResponse<PostResponse> negative = readTrending(member, null, -1);
+
+        // then
+        assertThat(zero.getData()).extracting(PostResponse::getId).containsExactly(first.getId());
+        assertThat(zero.getMeta().getHasMore()).isTrue();
+        assertThat(negative.getData()).extracting(PostResponse::getId).containsExactly(first.getId());
+        assertThat(negative.getMeta().getHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("순위가 비어 있으면 빈 페이지를 내려준다")
+    @Timeout(10)
+    void readEmptyRanking() {
+        // given
+        Member member = getMember();
+
+        // when
+        PaginationResponse<PostResponse> result = readTrending(member, null, 10);
+
+        // then
+        assertThat(result.getData()).isEmpty();
+        assertThat(result.getMeta().getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장한 순위를 다시 시작할 때 되살린다")
+    void restoreSnapshot() {
+        // given
+        Member member = getMember();
+        Post first = getPost(member);
+        Post second = getPost(member);
+        trendingPosts.recordLike(first.getId(), 1L);
+        trendingPosts.recordView(second.getId());
+
+        // when
+        trendingPosts.saveSnapshot();
+        trendingPosts.clear();
+        trendingPosts.restoreSnapshot();
+
+        // then
+        assertThat(readTrending(member, null, 10).getData())
+                .extracting(PostResponse::getId)
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("글 삭제가 롤백되면 순위에 남고, 커밋된 뒤에만 순위에서 빠진다")
+    void removeDeletedPostAfterCommit() {
+        // given
+        Member member = getMember();
+        Post post = getPost(member);
+        trendingPosts.recordComment(post.getId());
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.delete(member.getId(), post.getId());
+            status.setRollbackOnly();
+        });
+        int sizeAfterRollback = trendingPosts.size();
+        postService.delete(member.getId(), post.getId());
+
+        // then
+        assertThat(sizeAfterRollback).isEqualTo(1);
+        assertThat(trendingPosts.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("노드마다 저장한 순위를 평균 내어 되살린다")
+    void restoreSnapshotsOfAllNodes() throws Exception {
+        // given
+        Member member = getMember();
+        Post first = getPost(member);
+        Post second = getPost(member);
+        long savedAt = System.currentTimeMillis();
+        stringRedisTemplate.opsForValue().set(TrendingPosts.SNAPSHOT_KEY_PREFIX + "node-a", objectMapper.writeValueAsString(Map.of(
+                "savedAt", savedAt,
+                "scores", Map.of(first.getId(), 6.0))));
+        stringRedisTemplate.opsForValue().set(TrendingPosts.SNAPSHOT_KEY_PREFIX + "node-b", objectMapper.writeValueAsString(Map.of(
+                "savedAt", savedAt,
+                "scores", Map.of(second.getId(), 4.0))));
+
+        // when
+        trendingPosts.clear();
+        trendingPosts.restoreSnapshot();
+
+        // then
+        assertThat(readTrending(member, null, 10).getData())
+                .extracting(PostResponse::getId)
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    private PaginationResponse<PostResponse> readTrending(Member member, String cursor, int size) {
+        return trendingPostService.readTrending(member.getId(), PostTrendingRequest.builder()
+                .cursor(cursor)
+                .size(size)
+                .build());
+    }
+}
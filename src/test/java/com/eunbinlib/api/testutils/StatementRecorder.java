@@ -0,0 +1,38 @@
+package com.eunbinlib.api.testutils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 그대로 모은다.
+ * 스케줄러처럼 다른 스레드에서 실행되는 SQL 은 섞이지 않도록, record 를 호출한 스레드의 SQL 만 모은다.
+ * hibernate.session_factory.statement_inspector 설정으로 등록한다.
+ */
+public class StatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static List<String> record(Runnable runnable) {
+        List<String> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            runnable.run();
+        } finally {
+            RECORDED.remove();
+        }
+
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+
+        return sql;
+    }
+}
@@ -0,0 +1,138 @@
+package com.eunbinlib.api.trending;
+
+import com.eunbinlib.api.application.trending.TrendingScoreBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingScoreBoardTest {
+
+    private static final long HALF_LIFE = 1_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    private final TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 3, clock::get);
+
+    @Test
+    @DisplayName("같은 반응이라도 최근에 받은 글이 더 높고, 반감기가 지나면 점수가 절반이 된다")
+    void recentEventsRankHigher() {
+        // given
+        board.add(1L, 10.0);
+        clock.addAndGet(HALF_LIFE);
+        board.add(2L, 10.0);
+        board.add(3L, 6.0);
+
+        // when
+        Map<Long, Double> scores = board.snapshot();
+
+        // then
+        assertThat(board.read(0, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(scores.get(1L)).isCloseTo(5.0, within(1e-9));
+        assertThat(scores.get(2L)).isCloseTo(10.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("순위는 topK 개까지만 유지하고, 밖에 있던 글도 점수가 오르면 순위에 들어온다")
+    void keepTopK() {
+        // given
+        for (long postId = 1; postId <= 5; postId++) {
+            board.add(postId, postId);
+        }
+
+        // when
+        board.add(1L, 10.0);
+
+        // then
+        assertThat(board.read(0, 10)).containsExactly(1L, 5L, 4L);
+        assertThat(board.read(1, 1)).containsExactly(5L);
+        assertThat(board.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("순위에 있던 글의 점수가 줄거나 글이 빠지면 순위 밖의 글로 다시 채운다")
+    void refillAfterDecreaseAndRemove() {
+        // given
+        for (long postId = 1; postId <= 5; postId++) {
+            board.add(postId, postId);
+        }
+
+        // when
+        board.add(5L, -5.0);
+        board.remove(4L);
+
+        // then
+        assertThat(board.read(0, 10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮겨도 순위와 점수가 그대로이고, 작아진 글은 잊는다")
+    void rescaleAndPrune() {
+        // given
+        board.add(1L, 8.0);
+        board.add(2L, 4.0);
+        board.add(3L, 2.0);
+        board.add(4L, 1.0);
+        clock.addAndGet(HALF_LIFE * 100);
+
+        // when
+        board.add(5L, 1.0);
+        board.prune(0.5);
+
+        // then
+        assertThat(board.read(0, 10)).containsExactly(5L, 1L, 2L);
+        assertThat(board.size()).isEqualTo(3);
+        assertThat(board.snapshot().get(5L)).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("저장한 점수를 저장 이후 지난 시간만큼 줄여서 되살린다")
+    void restore() {
+        // given
+        long savedAt = clock.get();
+        clock.addAndGet(HALF_LIFE);
+
+        // when
+        board.restore(Map.of(1L, 8.0, 2L, 2.0), savedAt);
+
+        // then
+        assertThat(board.read(0, 10)).containsExactly(1L, 2L);
+        assertThat(board.snapshot().get(1L)).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 반응을 반영해도 순위가 topK 개로 유지된다")
+    void concurrentUpdates() throws InterruptedException {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 1_000, System::currentTimeMillis);
+        int threads = 8;
+        int eventsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int j = 0; j < eventsPerThread; j++) {
+                    board.add(random.nextLong(10_000L), 1.0);
+                    if (j % 1_000 == 0) {
+                        board.read(0, 20);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(board.read(0, 1_000)).hasSize(1_000).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,96 @@
+package com.eunbinlib.api.utils;
+
+import com.eunbinlib.api.application.domain.repository.block.BlockRepository;
+import com.eunbinlib.api.application.utils.BlockedMemberCache;
+import com.eunbinlib.api.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.eunbinlib.api.application.utils.BlockedMemberCache.CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockedMemberCacheTest {
+
+    private final BlockRepository blockRepository = mock(BlockRepository.class);
+
+    private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+
+    private BlockedMemberCache blockedMemberCache;
+
+    private Consumer<String> remoteInvalidation;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        blockedMemberCache = new BlockedMemberCache(100, 1_000_000, 60_000, blockRepository, invalidationBus);
+
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(CHANNEL), captor.capture());
+        remoteInvalidation = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("차단 목록은 한 번만 조회하고 이후에는 캐시를 사용한다")
+    void loadOnce() {
+        // given
+        when(blockRepository.findBlockedIdsByBlockerId(1L)).thenReturn(List.of(3L, 2L));
+
+        // when
+        blockedMemberCache.get(1L);
+        blockedMemberCache.get(1L);
+
+        // then
+        verify(blockRepository, times(1)).findBlockedIdsByBlockerId(1L);
+        assertThat(blockedMemberCache.get(1L).contains(2L)).isTrue();
+        assertThat(blockedMemberCache.get(1L).contains(4L)).isFalse();
+        assertThat(blockedMemberCache.getHitCount()).isEqualTo(3L);
+        assertThat(blockedMemberCache.getMissCount()).isEqualTo(1L);
+        assertThat(blockedMemberCache.getEstimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("조회 도중에 무효화되면 조회한 목록을 캐시에 남기지 않는다")
+    void discardLoadRacingWithInvalidation() {
+        // given
+        when(blockRepository.findBlockedIdsByBlockerId(1L)).thenAnswer(invocation -> {
+            blockedMemberCache.invalidate(1L);
+            return List.of(2L);
+        });
+
+        // when
+        blockedMemberCache.get(1L);
+
+        // then
+        assertThat(blockedMemberCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 해당 회원 또는 전체 목록을 지운다")
+    void remoteInvalidation() {
+        // given
+        when(blockRepository.findBlockedIdsByBlockerId(1L)).thenReturn(List.of(2L));
+        when(blockRepository.findBlockedIdsByBlockerId(5L)).thenReturn(List.of());
+        blockedMemberCache.get(1L);
+        blockedMemberCache.get(5L);
+
+        // when
+        remoteInvalidation.accept("1");
+        remoteInvalidation.accept("not-a-member-id");
+
+        // then
+        assertThat(blockedMemberCache.size()).isEqualTo(1L);
+
+        remoteInvalidation.accept(null);
+        assertThat(blockedMemberCache.size()).isZero();
+    }
+}
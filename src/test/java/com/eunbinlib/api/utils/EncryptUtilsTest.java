@@ -40,4 +40,17 @@ public class EncryptUtilsTest {
         assertThat(EncryptUtils.isNotMatch(otherPassword, hashedPassword))
                 .isTrue();
     }
+
+    @Test
+    @DisplayName("해시에 기록된 cost 를 읽는 경우")
+    void getLogRounds() {
+        // given
+        String hashedPassword = EncryptUtils.encrypt("abcde1234", 5);
+
+        // expected
+        assertThat(EncryptUtils.getLogRounds(hashedPassword))
+                .isEqualTo(5);
+        assertThat(EncryptUtils.isNotMatch("abcde1234", hashedPassword))
+                .isFalse();
+    }
 }
@@ -0,0 +1,91 @@
+package com.eunbinlib.api.utils;
+
+import com.eunbinlib.api.application.exception.type.ServiceUnavailableException;
+import com.eunbinlib.api.application.utils.EncryptUtils;
+import com.eunbinlib.api.application.utils.PasswordHashExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashExecutorTest {
+
+    private final PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(1, 1);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시를 별도 스레드에서 실행하고 결과를 반환한다")
+    void hashOnWorkerThread() throws Exception {
+        // when
+        String hashed = passwordHashExecutor.submit(() -> EncryptUtils.encrypt("password"))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(EncryptUtils.isNotMatch("password", hashed)).isFalse();
+        assertThat(passwordHashExecutor.getCompletedCount()).isEqualTo(1L);
+        assertThat(passwordHashExecutor.getTotalRunNanos()).isPositive();
+        assertThat(passwordHashExecutor.getMaxRunNanos()).isPositive();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 503 예외를 던진다")
+    void rejectWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = passwordHashExecutor.submit(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> queued = passwordHashExecutor.submit(() -> {
+        });
+
+        // expected
+        assertThat(passwordHashExecutor.getQueueDepth()).isEqualTo(1);
+        assertThatThrownBy(() -> passwordHashExecutor.submit(() -> {
+        })).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(passwordHashExecutor.getRejectedCount()).isEqualTo(1L);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(passwordHashExecutor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 감싸지 않고 그대로 전달한다")
+    void propagateTaskException() {
+        // given
+        IllegalStateException exception = new IllegalStateException();
+
+        // when
+        CompletableFuture<Object> future = passwordHashExecutor.submit(() -> {
+            throw exception;
+        });
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCause(exception);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
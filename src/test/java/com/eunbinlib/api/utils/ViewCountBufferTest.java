@@ -0,0 +1,108 @@
+package com.eunbinlib.api.utils;
+
+import com.eunbinlib.api.application.domain.repository.post.PostRepository;
+import com.eunbinlib.api.application.utils.ViewCountBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+
+    private final ViewCountBuffer viewCountBuffer = new ViewCountBuffer(postRepository);
+
+    @Test
+    @DisplayName("증가분이 같은 글끼리 묶어서 한 번에 반영한다")
+    void flushGroupedByDelta() {
+        // given
+        viewCountBuffer.record(1L);
+        viewCountBuffer.record(2L);
+        viewCountBuffer.record(3L);
+        viewCountBuffer.record(3L);
+
+        assertThat(viewCountBuffer.getPendingPostCount()).isEqualTo(3L);
+        assertThat(viewCountBuffer.getPendingDelta()).isEqualTo(4L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository).addViewCount(eq(1L), eq(List.of(1L, 2L)));
+        verify(postRepository).addViewCount(eq(2L), eq(List.of(3L)));
+        assertThat(viewCountBuffer.getPendingDelta()).isZero();
+        assertThat(viewCountBuffer.getFlushedDelta()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다음 flush 에서 다시 반영한다")
+    void retryFailedFlush() {
+        // given
+        when(postRepository.addViewCount(anyLong(), anyCollection()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+        viewCountBuffer.record(1L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(viewCountBuffer.getFailedFlushCount()).isEqualTo(1L);
+        assertThat(viewCountBuffer.getPendingDelta()).isEqualTo(1L);
+
+        viewCountBuffer.flush();
+        verify(postRepository, times(2)).addViewCount(eq(1L), eq(List.of(1L)));
+        assertThat(viewCountBuffer.getPendingDelta()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 DB 를 수정하지 않는다")
+    void flushNothing() {
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository, never()).addViewCount(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("기록과 flush 가 겹쳐도 조회수를 잃어버리지 않는다")
+    void concurrentRecordAndFlush() throws InterruptedException {
+        // given
+        int threads = 8;
+        int viewsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    viewCountBuffer.record(1L);
+                    if (j % 1_000 == 0) {
+                        viewCountBuffer.flush();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(viewCountBuffer.getFlushedDelta()).isEqualTo((long) threads * viewsPerThread);
+    }
+}